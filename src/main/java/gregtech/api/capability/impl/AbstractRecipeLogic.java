@@ -11,8 +11,10 @@ import gregtech.api.metatileentity.multiblock.ParallelLogicType;
 import gregtech.api.recipes.Recipe;
 import gregtech.api.recipes.RecipeMap;
 import gregtech.api.recipes.logic.IParallelableRecipeLogic;
+import gregtech.api.recipes.logic.MultipliedRecipeCache;
 import gregtech.api.recipes.recipeproperties.CleanroomProperty;
 import gregtech.api.recipes.recipeproperties.IRecipePropertyStorage;
+import gregtech.api.util.GTProfiler;
 import gregtech.api.util.GTTransferUtils;
 import gregtech.api.util.GTUtility;
 import gregtech.common.ConfigHolder;
@@ -42,6 +44,7 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable,
     private static final String OVERCLOCK_VOLTAGE = "OverclockVoltage";
 
     private final RecipeMap<?> recipeMap;
+    private final MultipliedRecipeCache multipliedRecipeCache = new MultipliedRecipeCache();
 
     protected Recipe previousRecipe;
     private boolean allowOverclocking = true;
@@ -190,6 +193,14 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable,
         }
     }
 
+    @Override
+    public boolean isSleeping() {
+        if (progressTime > 0 || wasActiveAndNeedsUpdate) return false;
+        if (!workingEnabled) return true;
+        // the same checks as canWorkWithInputs() and canFitNewOutputs(), without clearing the notified handlers
+        return (invalidInputsForRecipes && !hasNotifiedInputs()) || (isOutputsFull && !hasNotifiedOutputs());
+    }
+
     /**
      * DO NOT use the recipeMap field directly, EVER
      * <p>
@@ -203,6 +214,12 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable,
         return this.recipeMap;
     }
 
+    @Nonnull
+    @Override
+    public MultipliedRecipeCache getMultipliedRecipeCache() {
+        return this.multipliedRecipeCache;
+    }
+
     /**
      * Can be null if a recipe has not yet been run
      *
@@ -343,6 +360,13 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable,
         return cleanroomProvider.isClean() && cleanroomProvider.getTypes().contains(requiredType);
     }
 
+    /**
+     * Checks whether the current recipe can progress now, instead of on the next periodic check
+     */
+    public void checkCanRecipeProgress() {
+        this.canRecipeProgress = canProgressRecipe();
+    }
+
     /**
      * Force the workable to search for new recipes.
      * This can be performance intensive. Use sparingly.
@@ -498,7 +522,12 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable,
             return null;
         }
 
-        return map.findRecipe(maxVoltage, inputs, fluidInputs);
+        Recipe recipe = map.findRecipe(maxVoltage, inputs, fluidInputs);
+        if (GTProfiler.isRunning() && metaTileEntity.getWorld() != null) {
+            GTProfiler.recordRecipeSearch(metaTileEntity.getClass(), metaTileEntity.getWorld().provider.getDimension(),
+                    map.unlocalizedName, recipe != null);
+        }
+        return recipe;
     }
 
     /**
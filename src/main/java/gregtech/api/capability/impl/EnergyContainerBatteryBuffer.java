@@ -71,6 +71,11 @@ public class EnergyContainerBatteryBuffer extends EnergyContainerHandler {
         return 0;
     }
 
+    @Override
+    public boolean isSleeping() {
+        return false;
+    }
+
     @Override
     public void update() {
         amps = 0;
@@ -85,7 +90,7 @@ public class EnergyContainerBatteryBuffer extends EnergyContainerHandler {
         }
 
         EnumFacing outFacing = metaTileEntity.getFrontFacing();
-        TileEntity tileEntity = metaTileEntity.getWorld().getTileEntity(metaTileEntity.getPos().offset(outFacing));
+        TileEntity tileEntity = metaTileEntity.getNeighbor(outFacing);
         if (tileEntity == null) {
             return;
         }
@@ -70,6 +70,11 @@ public class EnergyContainerBatteryCharger extends EnergyContainerHandler {
         return 0;
     }
 
+    @Override
+    public boolean isSleeping() {
+        return false;
+    }
+
     @Override
     public void update() {
         amps = 0;
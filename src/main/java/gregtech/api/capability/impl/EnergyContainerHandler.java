@@ -199,7 +199,7 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
             long amperesUsed = 0;
             for (EnumFacing side : EnumFacing.VALUES) {
                 if (!outputsEnergy(side)) continue;
-                TileEntity tileEntity = metaTileEntity.getWorld().getTileEntity(metaTileEntity.getPos().offset(side));
+                TileEntity tileEntity = metaTileEntity.getNeighbor(side);
                 EnumFacing oppositeSide = side.getOpposite();
                 if (tileEntity != null && tileEntity.hasCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, oppositeSide)) {
                     IEnergyContainer energyContainer = tileEntity.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, oppositeSide);
@@ -214,6 +214,14 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
         }
     }
 
+    /**
+     * Sleeping while there is no energy to output, energy arriving wakes the meta tile entity by marking it dirty
+     */
+    @Override
+    public boolean isSleeping() {
+        return getOutputVoltage() <= 0 || getOutputAmperage() <= 0 || getEnergyStored() < getOutputVoltage();
+    }
+
     @Override
     public long acceptEnergyFromNetwork(EnumFacing side, long voltage, long amperage) {
         if (amps >= getInputAmperage()) return 0;
@@ -16,6 +16,7 @@ import gregtech.api.util.GTUtility;
 import gregtech.client.renderer.ICubeRenderer;
 import gregtech.client.renderer.texture.Textures;
 import gregtech.common.ConfigHolder;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
@@ -26,12 +27,15 @@ import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import org.apache.commons.lang3.StringUtils;
 
 import javax.annotation.Nonnull;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -42,6 +46,11 @@ public class MinerLogic {
     private static final byte TICK_TOLERANCE = 20;
     private static final double DIVIDEND = MAX_SPEED * Math.pow(TICK_TOLERANCE, POWER);
 
+    // block states known to be ores, and all block states checked so far, indexed by Block.getStateId.
+    // Cleared together with the ore id cache of OreDictUnifier
+    private static final BitSet ORE_STATES = new BitSet();
+    private static final BitSet CHECKED_STATES = new BitSet();
+
     protected final MetaTileEntity metaTileEntity;
     protected final IMiner miner;
 
@@ -51,7 +60,8 @@ public class MinerLogic {
 
     private final ICubeRenderer PIPE_TEXTURE;
 
-    private final LinkedList<BlockPos> blocksToMine = new LinkedList<>();
+    // positions of the ores to mine, as BlockPos.toLong()
+    private final LongArrayFIFOQueue blocksToMine = new LongArrayFIFOQueue();
 
     private final AtomicInteger x = new AtomicInteger(Integer.MAX_VALUE);
     private final AtomicInteger y = new AtomicInteger(Integer.MAX_VALUE);
@@ -161,22 +171,24 @@ public class MinerLogic {
         // if there are blocks to mine and the correct amount of time has passed, do the mining
         if (metaTileEntity.getOffsetTimer() % this.speed == 0 && !blocksToMine.isEmpty()) {
             NonNullList<ItemStack> blockDrops = NonNullList.create();
-            IBlockState blockState = metaTileEntity.getWorld().getBlockState(blocksToMine.getFirst());
+            BlockPos blockToMine = BlockPos.fromLong(blocksToMine.firstLong());
+            IBlockState blockState = metaTileEntity.getWorld().getBlockState(blockToMine);
 
             // check to make sure the ore is still there,
-            while(!GTUtility.isOre(GTUtility.toItem(blockState))) {
-                blocksToMine.removeFirst();
+            while (!isOre(blockState)) {
+                blocksToMine.dequeueLong();
                 if (blocksToMine.isEmpty()) break;
-                blockState = metaTileEntity.getWorld().getBlockState(blocksToMine.getFirst());
+                blockToMine = BlockPos.fromLong(blocksToMine.firstLong());
+                blockState = metaTileEntity.getWorld().getBlockState(blockToMine);
             }
             // When we are here we have an ore to mine! I'm glad we aren't threaded
-            if (!blocksToMine.isEmpty() & GTUtility.isOre(GTUtility.toItem(blockState))) {
+            if (!blocksToMine.isEmpty() & isOre(blockState)) {
                 // get the small ore drops, if a small ore
-                getSmallOreBlockDrops(blockDrops, world, blocksToMine.getFirst(), blockState);
+                getSmallOreBlockDrops(blockDrops, world, blockToMine, blockState);
                 // get the block's drops.
-                getRegularBlockDrops(blockDrops, world, blocksToMine.getFirst(), blockState);
+                getRegularBlockDrops(blockDrops, world, blockToMine, blockState);
                 // try to insert them
-                mineAndInsertItems(blockDrops, world);
+                mineAndInsertItems(blockDrops, world, blockToMine);
             }
 
         }
@@ -188,7 +200,7 @@ public class MinerLogic {
             z.set(mineZ.get());
 
             // attempt to get more blocks to mine, if there are none, the miner is done mining
-            blocksToMine.addAll(getBlocksToMine());
+            findBlocksToMine();
             if (blocksToMine.isEmpty()) {
                 this.isDone = true;
                 this.wasActiveAndNeedsUpdate = true;
@@ -266,18 +278,19 @@ public class MinerLogic {
      *
      * @param blockDrops the List of items to insert
      * @param world the {@link WorldServer} the miner is in
+     * @param blockToMine the {@link BlockPos} of the block being mined, the first one of the mining queue
      */
-    private void mineAndInsertItems(NonNullList<ItemStack> blockDrops, WorldServer world) {
+    private void mineAndInsertItems(NonNullList<ItemStack> blockDrops, WorldServer world, BlockPos blockToMine) {
         // If the block's drops can fit in the inventory, move the previously mined position to the block
         // replace the ore block with cobblestone instead of breaking it to prevent mob spawning
         // remove the ore block's position from the mining queue
         if (GTTransferUtils.addItemsToItemHandler(metaTileEntity.getExportItems(), true, blockDrops)) {
             GTTransferUtils.addItemsToItemHandler(metaTileEntity.getExportItems(), false, blockDrops);
-            world.setBlockState(blocksToMine.getFirst(), oreReplacementBlock);
-            mineX.set(blocksToMine.getFirst().getX());
-            mineZ.set(blocksToMine.getFirst().getZ());
-            mineY.set(blocksToMine.getFirst().getY());
-            blocksToMine.removeFirst();
+            world.setBlockState(blockToMine, oreReplacementBlock);
+            mineX.set(blockToMine.getX());
+            mineZ.set(blockToMine.getZ());
+            mineY.set(blockToMine.getY());
+            blocksToMine.dequeueLong();
             onMineOperation();
 
             // if the inventory was previously considered full, mark it as not since an item was able to fit
@@ -324,7 +337,7 @@ public class MinerLogic {
      */
     public void checkBlocksToMine() {
         if (blocksToMine.isEmpty())
-            blocksToMine.addAll(getBlocksToMine());
+            findBlocksToMine();
     }
 
     /**
@@ -339,50 +352,89 @@ public class MinerLogic {
     }
 
     /**
-     * Gets the blocks to mine
-     * @return a {@link LinkedList} of {@link BlockPos} for each ore to mine
+     * Adds the next ores to mine to the mining queue.
+     * Scans the mining area layer by layer from the top, reading the block states straight from the chunk sections
      */
-    private LinkedList<BlockPos> getBlocksToMine() {
-        LinkedList<BlockPos> blocks = new LinkedList<>();
+    private void findBlocksToMine() {
+        World world = metaTileEntity.getWorld();
 
         // determine how many blocks to retrieve this time
-        double quotient = getQuotient(GTUtility.getMeanTickTime(metaTileEntity.getWorld()));
+        double quotient = getQuotient(GTUtility.getMeanTickTime(world));
         int calcAmount = quotient < 1 ? 1 : (int) (Math.min(quotient, Short.MAX_VALUE));
         int calculated = 0;
-
-        // keep getting blocks until the target amount is reached
-        while (calculated < calcAmount) {
-            // moving down the y-axis
-            if (y.get() > 0) {
-                // moving across the z-axis
-                if (z.get() <= startZ.get() + currentRadius * 2) {
-                    // check every block along the x-axis
-                    if (x.get() <= startX.get() + currentRadius * 2) {
-                        BlockPos blockPos = new BlockPos(x.get(), y.get(), z.get());
-                        IBlockState state = metaTileEntity.getWorld().getBlockState(blockPos);
-                        if (state.getBlock().blockHardness >= 0 && metaTileEntity.getWorld().getTileEntity(blockPos) == null && GTUtility.isOre(GTUtility.toItem(state))) {
-                            blocks.addLast(blockPos);
-                        }
-                        // move to the next x position
-                        x.incrementAndGet();
-                    } else {
-                        // reset x and move to the next z layer
-                        x.set(startX.get());
-                        z.incrementAndGet();
-                    }
+        boolean found = false;
+
+        int x = this.x.get();
+        int y = this.y.get();
+        int z = this.z.get();
+        int startX = this.startX.get();
+        int startZ = this.startZ.get();
+        int endX = startX + currentRadius * 2;
+        int endZ = startZ + currentRadius * 2;
+
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        Chunk chunk = null;
+
+        // keep getting blocks until the target amount is reached, or the bottom of the world is reached
+        while (calculated < calcAmount && y > 0) {
+            if (z > endZ) {
+                // reset z and move to the next y layer
+                z = startZ;
+                y--;
+            } else if (x > endX) {
+                // reset x and move to the next z layer
+                x = startX;
+                z++;
+            } else {
+                if (chunk == null || chunk.x != x >> 4 || chunk.z != z >> 4) {
+                    chunk = world.getChunk(x >> 4, z >> 4);
+                }
+                ExtendedBlockStorage storage = chunk.getBlockStorageArray()[y >> 4];
+                if (storage == Chunk.NULL_BLOCK_STORAGE) {
+                    // the section is empty, skip the part of the row inside of it
+                    x = Math.min(x | 15, endX) + 1;
                 } else {
-                    // reset z and move to the next y layer
-                    z.set(startZ.get());
-                    y.decrementAndGet();
+                    IBlockState state = storage.get(x & 15, y & 15, z & 15);
+                    if (isOre(state) && state.getBlock().blockHardness >= 0 && world.getTileEntity(pos.setPos(x, y, z)) == null) {
+                        blocksToMine.enqueue(pos.toLong());
+                        found = true;
+                    }
+                    // move to the next x position
+                    x++;
                 }
-            } else
-                return blocks;
+            }
 
             // only count iterations where blocks were found
-            if (!blocks.isEmpty())
+            if (found)
                 calculated++;
         }
-        return blocks;
+
+        this.x.set(x);
+        this.y.set(y);
+        this.z.set(z);
+    }
+
+    /**
+     * @param state the block state to check
+     * @return if the block state is an ore, looked up once per state
+     */
+    protected static boolean isOre(@Nonnull IBlockState state) {
+        int id = Block.getStateId(state);
+        if (!CHECKED_STATES.get(id)) {
+            CHECKED_STATES.set(id);
+            if (GTUtility.isOre(GTUtility.toItem(state))) {
+                ORE_STATES.set(id);
+            }
+        }
+        return ORE_STATES.get(id);
+    }
+
+    /**
+     * Forgets which block states are ores. Must be called when ore dictionary entries change
+     */
+    public static void clearOreStates() {
+        ORE_STATES.clear();
+        CHECKED_STATES.clear();
     }
 
     /**
@@ -14,6 +14,7 @@ import gregtech.client.utils.RenderUtil;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.BlockRenderLayer;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
@@ -25,6 +26,7 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -45,6 +47,15 @@ public interface ICoverable {
 
     <T> T getCapability(Capability<T> capability, EnumFacing side);
 
+    /**
+     * @param side the side of the neighbour
+     * @return the tile entity next to this coverable on the given side, or null if there is none
+     */
+    @Nullable
+    default TileEntity getNeighbor(@Nonnull EnumFacing side) {
+        return getWorld().getTileEntity(getPos().offset(side));
+    }
+
     boolean placeCoverOnSide(EnumFacing side, ItemStack itemStack, CoverDefinition definition, EntityPlayer player);
 
     boolean removeCover(EnumFacing side);
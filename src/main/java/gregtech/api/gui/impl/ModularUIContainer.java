@@ -8,8 +8,10 @@ import gregtech.api.gui.widgets.SlotWidget;
 import gregtech.api.gui.widgets.WidgetUIAccess;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.PerTickIntCounter;
+import gregtech.core.network.NetworkUtils;
 import gregtech.core.network.packets.PacketUIClientAction;
 import gregtech.core.network.packets.PacketUIWidgetUpdate;
+import gregtech.core.network.packets.PacketUIWidgetUpdateBatch;
 import io.netty.buffer.Unpooled;
 import net.minecraft.client.entity.EntityPlayerSP;
 import net.minecraft.entity.player.EntityPlayer;
@@ -32,6 +34,12 @@ public class ModularUIContainer extends Container implements WidgetUIAccess {
     public boolean accumulateWidgetUpdateData = false;
     public final List<PacketUIWidgetUpdate> accumulatedUpdates = new ArrayList<>();
 
+    // widget updates written while detecting changes are sent together once all widgets are checked
+    private final PacketBuffer updateBuffer = new PacketBuffer(Unpooled.buffer());
+    private final PacketBuffer batchedUpdates = new PacketBuffer(Unpooled.buffer());
+    private int batchedUpdateCount = 0;
+    private boolean batchWidgetUpdates = false;
+
     public ModularUIContainer(ModularUI modularUI) {
         this.modularUI = modularUI;
         modularUI.guiWidgets.values().forEach(widget -> widget.setUiAccess(this));
@@ -109,7 +117,7 @@ public class ModularUIContainer extends Container implements WidgetUIAccess {
     @Override
     public void addListener(@Nonnull IContainerListener listener) {
         super.addListener(listener);
-        modularUI.guiWidgets.values().forEach(Widget::detectAndSendChanges);
+        detectWidgetChanges();
     }
 
     @Override
@@ -134,8 +142,28 @@ public class ModularUIContainer extends Container implements WidgetUIAccess {
     public void detectAndSendChanges() {
         super.detectAndSendChanges();
         if (listeners.size() > 0) {
+            detectWidgetChanges();
+        }
+    }
+
+    private void detectWidgetChanges() {
+        this.batchWidgetUpdates = true;
+        try {
             modularUI.guiWidgets.values().forEach(Widget::detectAndSendChanges);
+        } finally {
+            this.batchWidgetUpdates = false;
         }
+        flushWidgetUpdates();
+    }
+
+    private void flushWidgetUpdates() {
+        if (batchedUpdateCount == 0) return;
+        if (modularUI.entityPlayer instanceof EntityPlayerMP) {
+            PacketUIWidgetUpdateBatch packet = new PacketUIWidgetUpdateBatch(windowId, batchedUpdateCount, batchedUpdates);
+            GregTechAPI.networkHandler.sendTo(packet, (EntityPlayerMP) modularUI.entityPlayer);
+        }
+        this.batchedUpdates.clear();
+        this.batchedUpdateCount = 0;
     }
 
     @Nonnull
@@ -253,6 +281,15 @@ public class ModularUIContainer extends Container implements WidgetUIAccess {
     @Override
     public void writeUpdateInfo(Widget widget, int updateId, Consumer<PacketBuffer> payloadWriter) {
         int widgetId = modularUI.guiWidgets.inverse().get(widget);
+        if (batchWidgetUpdates && !accumulateWidgetUpdateData) {
+            updateBuffer.clear();
+            updateBuffer.writeVarInt(updateId);
+            payloadWriter.accept(updateBuffer);
+            batchedUpdates.writeVarInt(widgetId);
+            NetworkUtils.writePacketBuffer(batchedUpdates, updateBuffer);
+            this.batchedUpdateCount++;
+            return;
+        }
         PacketBuffer packetBuffer = new PacketBuffer(Unpooled.buffer());
         packetBuffer.writeVarInt(updateId);
         payloadWriter.accept(packetBuffer);
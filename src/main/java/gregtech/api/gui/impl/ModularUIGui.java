@@ -13,6 +13,7 @@ import net.minecraft.client.renderer.RenderHelper;
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.inventory.Slot;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.math.MathHelper;
 import net.minecraftforge.client.event.GuiContainerEvent;
 import net.minecraftforge.common.MinecraftForge;
@@ -65,11 +66,15 @@ public class ModularUIGui extends GuiContainer implements IRenderContext {
     }
 
     public void handleWidgetUpdate(PacketUIWidgetUpdate packet) {
-        if (packet.windowId == inventorySlots.windowId) {
-            Widget widget = modularUI.guiWidgets.get(packet.widgetId);
-            int updateId = packet.updateData.readVarInt();
+        handleWidgetUpdate(packet.windowId, packet.widgetId, packet.updateData);
+    }
+
+    public void handleWidgetUpdate(int windowId, int widgetId, PacketBuffer updateData) {
+        if (windowId == inventorySlots.windowId) {
+            Widget widget = modularUI.guiWidgets.get(widgetId);
+            int updateId = updateData.readVarInt();
             if (widget != null) {
-                widget.readUpdateInfo(updateId, packet.updateData);
+                widget.readUpdateInfo(updateId, updateData);
             }
         }
     }
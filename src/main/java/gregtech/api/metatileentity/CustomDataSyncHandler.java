@@ -0,0 +1,64 @@
+package gregtech.api.metatileentity;
+
+import gregtech.api.GTValues;
+import gregtech.api.GregTechAPI;
+import gregtech.core.network.NetworkUtils;
+import gregtech.core.network.packets.PacketCustomData;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.ServerTickEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends the custom data written by {@link SyncedTileEntityBase}s during a server tick,
+ * as a single {@link PacketCustomData} per tile entity at the end of the tick.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public class CustomDataSyncHandler {
+
+    private static final List<SyncedTileEntityBase> dirtyTileEntities = new ArrayList<>();
+
+    static void markDirty(SyncedTileEntityBase tileEntity) {
+        dirtyTileEntities.add(tileEntity);
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent event) {
+        if (event.phase != Phase.END || dirtyTileEntities.isEmpty())
+            return;
+        for (SyncedTileEntityBase tileEntity : dirtyTileEntities) {
+            ByteBuf customData = tileEntity.takeCustomData();
+            if (customData == null) continue;
+            try {
+                World world = tileEntity.getWorld();
+                // tile entities removed during the tick still send their data, the client ignores it if there is nothing to receive it
+                if (world != null && world.isBlockLoaded(tileEntity.getPos())) {
+                    GregTechAPI.networkHandler.sendToAllTracking(new PacketCustomData(tileEntity.getPos(), customData),
+                            NetworkUtils.blockPoint(world, tileEntity.getPos()));
+                }
+            } finally {
+                customData.release();
+            }
+        }
+        dirtyTileEntities.clear();
+    }
+
+    /**
+     * Releases the data of all tile entities which was not sent yet. Must be called when the server stops,
+     * as the end of the last tick may never be reached.
+     */
+    public static void clearPendingData() {
+        for (SyncedTileEntityBase tileEntity : dirtyTileEntities) {
+            ByteBuf customData = tileEntity.takeCustomData();
+            if (customData != null) {
+                customData.release();
+            }
+        }
+        dirtyTileEntities.clear();
+    }
+}
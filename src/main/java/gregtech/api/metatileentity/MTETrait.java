@@ -54,6 +54,15 @@ public abstract class MTETrait {
         return this.networkId;
     }
 
+    /**
+     * Gets a capability provided by this trait.
+     * <p>
+     * The meta tile entity remembers which trait provides each capability, so whether this returns null
+     * for a given capability must not change after the trait is added.
+     *
+     * @param capability the capability to get
+     * @return the capability, or null if this trait does not provide it
+     */
     public abstract <T> T getCapability(Capability<T> capability);
 
     public void onFrontFacingSet(EnumFacing newFrontFacing) {
@@ -62,6 +71,16 @@ public abstract class MTETrait {
     public void update() {
     }
 
+    /**
+     * A trait is sleeping if {@link #update()} has nothing to do until its meta tile entity is woken up,
+     * by a change to its inputs, outputs, energy or neighbours.
+     *
+     * @return if this trait is sleeping
+     */
+    public boolean isSleeping() {
+        return false;
+    }
+
     @Nonnull
     public NBTTagCompound serializeNBT() {
         return new NBTTagCompound();
@@ -30,6 +30,7 @@ import gregtech.api.items.toolitem.ToolHelper;
 import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
 import gregtech.api.recipes.RecipeMap;
 import gregtech.api.util.GTLog;
+import gregtech.api.util.GTProfiler;
 import gregtech.api.util.GTTransferUtils;
 import gregtech.api.util.GTUtility;
 import gregtech.client.renderer.texture.Textures;
@@ -39,6 +40,8 @@ import gregtech.core.advancement.AdvancementTriggers;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.BlockFaceShape;
 import net.minecraft.block.state.IBlockState;
@@ -54,7 +57,6 @@ import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.*;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.BlockPos.PooledMutableBlockPos;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraft.world.World;
 import net.minecraftforge.common.capabilities.Capability;
@@ -78,6 +80,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -108,6 +111,11 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
 
     private final Map<String, MTETrait> mteTraits = new Object2ObjectOpenHashMap<>();
     private final Int2ObjectMap<MTETrait> mteTraitByNetworkId = new Int2ObjectOpenHashMap<>();
+    // the trait providing each queried capability, null values mark capabilities no trait provides
+    private final Reference2ObjectMap<Capability<?>, MTETrait> mteTraitByCapability = new Reference2ObjectOpenHashMap<>();
+
+    // neighbour tile entities in the same chunk, indexed by side
+    private final TileEntity[] neighborCache = new TileEntity[6];
 
     protected EnumFacing frontFacing = EnumFacing.NORTH;
     private int paintingColor = -1;
@@ -160,6 +168,17 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     public void markDirty() {
         if (holder != null) {
             holder.markAsDirty();
+            holder.wakeUp();
+        }
+    }
+
+    /**
+     * Makes this meta tile entity tick again, if it is hibernating.
+     * Called on changes to its state, inputs or outputs, neighbours and when a player opens its UI.
+     */
+    public void wakeUp() {
+        if (holder != null) {
+            holder.wakeUp();
         }
     }
 
@@ -179,6 +198,9 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     public void writeCustomData(int discriminator, Consumer<PacketBuffer> dataWriter) {
         if (holder != null) {
             holder.writeCustomData(discriminator, dataWriter);
+            if (GTProfiler.isRunning() && getWorld() != null && !getWorld().isRemote) {
+                GTProfiler.recordCustomDataWrite(getClass(), getWorld().provider.getDimension());
+            }
         }
     }
 
@@ -335,6 +357,7 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     }
 
     public <T> void addNotifiedInput(T input) {
+        wakeUp();
         if (input instanceof IItemHandlerModifiable) {
             if (!notifiedItemInputList.contains(input)) {
                 this.notifiedItemInputList.add((IItemHandlerModifiable) input);
@@ -347,6 +370,7 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     }
 
     public <T> void addNotifiedOutput(T output) {
+        wakeUp();
         if (output instanceof IItemHandlerModifiable) {
             if (!notifiedItemOutputList.contains(output)) {
                 this.notifiedItemOutputList.add((IItemHandlerModifiable) output);
@@ -368,6 +392,7 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     void addMetaTileEntityTrait(@Nonnull MTETrait trait) {
         this.mteTraits.put(trait.getName(), trait);
         this.mteTraitByNetworkId.put(trait.getNetworkID(), trait);
+        this.mteTraitByCapability.clear();
     }
 
     /**
@@ -427,6 +452,7 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     public boolean onRightClick(EntityPlayer playerIn, EnumHand hand, EnumFacing facing, CuboidRayTraceResult hitResult) {
         if (!playerIn.isSneaking() && openGUIOnRightClick()) {
             if (getWorld() != null && !getWorld().isRemote) {
+                wakeUp();
                 MetaTileEntityUIFactory.INSTANCE.openUI(getHolder(), (EntityPlayerMP) playerIn);
             }
             return true;
@@ -700,6 +726,38 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     public void onNeighborChanged() {
     }
 
+    /**
+     * Gets the tile entity next to this meta tile entity.
+     * <p>
+     * Neighbours in the same chunk are cached until they are invalidated, a neighbour block changes or
+     * this meta tile entity unloads. Neighbours in other chunks are looked up every time,
+     * since they can unload independently of this meta tile entity.
+     *
+     * @param side the side of the neighbour
+     * @return the neighbour tile entity, or null if there is none
+     */
+    @Nullable
+    @Override
+    public TileEntity getNeighbor(@Nonnull EnumFacing side) {
+        TileEntity neighbor = this.neighborCache[side.getIndex()];
+        if (neighbor != null && !neighbor.isInvalid()) {
+            return neighbor;
+        }
+        BlockPos pos = getPos();
+        BlockPos neighborPos = pos.offset(side);
+        neighbor = getWorld().getTileEntity(neighborPos);
+        boolean sameChunk = (pos.getX() >> 4) == (neighborPos.getX() >> 4) && (pos.getZ() >> 4) == (neighborPos.getZ() >> 4);
+        this.neighborCache[side.getIndex()] = sameChunk ? neighbor : null;
+        return neighbor;
+    }
+
+    /**
+     * Drops all cached neighbour tile entities, so the next {@link #getNeighbor(EnumFacing)} looks them up again
+     */
+    public final void invalidateNeighborCache() {
+        Arrays.fill(this.neighborCache, null);
+    }
+
     public void updateInputRedstoneSignals() {
         for (EnumFacing side : EnumFacing.VALUES) {
             int redstoneValue = GTUtility.getRedstonePower(getWorld(), getPos(), side);
@@ -777,6 +835,32 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
         return true;
     }
 
+    /**
+     * Whether this meta tile entity can stop ticking while all of its traits and covers are sleeping.
+     * Only return true if {@link #update()} does nothing else which has to happen regularly.
+     *
+     * @return if this meta tile entity can hibernate right now
+     */
+    protected boolean canHibernate() {
+        return false;
+    }
+
+    /**
+     * Checked on the server every 5 ticks. A hibernating meta tile entity stops ticking until {@link #wakeUp()} is called.
+     *
+     * @return if this meta tile entity has nothing to do until something changes
+     */
+    public boolean shouldHibernate() {
+        if (!canHibernate()) return false;
+        for (CoverBehavior coverBehavior : coverBehaviors) {
+            if (coverBehavior instanceof ITickable) return false;
+        }
+        for (MTETrait mteTrait : this.mteTraits.values()) {
+            if (shouldUpdate(mteTrait) && !mteTrait.isSleeping()) return false;
+        }
+        return true;
+    }
+
     @SideOnly(Side.CLIENT)
     private void updateSound() {
         if (!ConfigHolder.machines.machineSounds || isMuffled()) {
@@ -1000,11 +1084,18 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
             return CapabilityItemHandler.ITEM_HANDLER_CAPABILITY.cast(getItemInventory());
         }
         T capabilityResult = null;
-        for (MTETrait mteTrait : this.mteTraits.values()) {
-            capabilityResult = mteTrait.getCapability(capability);
-            if (capabilityResult != null) {
-                break;
+        MTETrait capabilityTrait = this.mteTraitByCapability.get(capability);
+        if (capabilityTrait != null) {
+            capabilityResult = capabilityTrait.getCapability(capability);
+        } else if (!this.mteTraitByCapability.containsKey(capability)) {
+            for (MTETrait mteTrait : this.mteTraits.values()) {
+                capabilityResult = mteTrait.getCapability(capability);
+                if (capabilityResult != null) {
+                    capabilityTrait = mteTrait;
+                    break;
+                }
             }
+            this.mteTraitByCapability.put(capability, capabilityTrait);
         }
         if (side != null && capabilityResult instanceof IEnergyContainer) {
             IEnergyContainer energyContainer = (IEnergyContainer) capabilityResult;
@@ -1072,10 +1163,8 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     }
 
     private <T> void transferToNearby(Capability<T> capability, BiConsumer<T, T> transfer, EnumFacing... allowedFaces) {
-        PooledMutableBlockPos blockPos = PooledMutableBlockPos.retain();
         for (EnumFacing nearbyFacing : allowedFaces) {
-            blockPos.setPos(getPos()).move(nearbyFacing);
-            TileEntity tileEntity = getWorld().getTileEntity(blockPos);
+            TileEntity tileEntity = getNeighbor(nearbyFacing);
             if (tileEntity == null) {
                 continue;
             }
@@ -1087,7 +1176,6 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
             }
             transfer.accept(thisCap, otherCap);
         }
-        blockPos.release();
     }
 
     public final int getOutputRedstoneSignal(@Nullable EnumFacing side) {
@@ -0,0 +1,111 @@
+package gregtech.api.metatileentity;
+
+import gregtech.api.GTValues;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Removes hibernating {@link MetaTileEntityHolder}s from the tickable tile entities of their world, per world.
+ * <p>
+ * The tickable tile entities are iterated while tile entities tick, so holders are only removed and added back
+ * at the end of the world tick. A holder woken up during a tick therefore resumes ticking in the next one.
+ *
+ * @see MetaTileEntity#shouldHibernate()
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public class MetaTileEntityHibernation {
+
+    private static final Map<World, MetaTileEntityHibernation> hibernationPerWorld = new HashMap<>();
+
+    private final Set<MetaTileEntityHolder> hibernating = new ReferenceOpenHashSet<>();
+    private final Set<MetaTileEntityHolder> goingToHibernate = new ReferenceOpenHashSet<>();
+    private final Set<MetaTileEntityHolder> wakingUp = new ReferenceOpenHashSet<>();
+    private final Set<MetaTileEntityHolder> invalidated = new ReferenceOpenHashSet<>();
+
+    /**
+     * @return the amount of holders in a world which are not ticking
+     */
+    public static int getHibernatingCount(World world) {
+        MetaTileEntityHibernation hibernation = hibernationPerWorld.get(world);
+        return hibernation == null ? 0 : hibernation.hibernating.size();
+    }
+
+    static void hibernate(MetaTileEntityHolder holder) {
+        hibernationPerWorld.computeIfAbsent(holder.getWorld(), k -> new MetaTileEntityHibernation()).goingToHibernate.add(holder);
+        holder.hibernating = true;
+    }
+
+    static void wakeUp(MetaTileEntityHolder holder) {
+        MetaTileEntityHibernation hibernation = hibernationPerWorld.get(holder.getWorld());
+        if (hibernation == null) return;
+        if (hibernation.goingToHibernate.remove(holder)) {
+            holder.hibernating = false;
+        } else {
+            hibernation.wakingUp.add(holder);
+        }
+    }
+
+    /**
+     * Forgets a holder which was invalidated or unloaded
+     *
+     * @param invalidated if the holder was invalidated, as it then also has to be removed from the loaded tile entities
+     */
+    static void remove(MetaTileEntityHolder holder, boolean invalidated) {
+        holder.hibernating = false;
+        MetaTileEntityHibernation hibernation = hibernationPerWorld.get(holder.getWorld());
+        if (hibernation == null) return;
+        // a holder still in the tickable tile entities is removed from both lists by the world itself
+        if (hibernation.goingToHibernate.remove(holder)) return;
+        hibernation.wakingUp.remove(holder);
+        if (hibernation.hibernating.remove(holder) && invalidated) {
+            hibernation.invalidated.add(holder);
+        }
+    }
+
+    private void update(World world) {
+        if (!goingToHibernate.isEmpty()) {
+            world.tickableTileEntities.removeAll(goingToHibernate);
+            hibernating.addAll(goingToHibernate);
+            goingToHibernate.clear();
+        }
+        if (!wakingUp.isEmpty()) {
+            for (MetaTileEntityHolder holder : wakingUp) {
+                hibernating.remove(holder);
+                world.tickableTileEntities.add(holder);
+                holder.hibernating = false;
+            }
+            wakingUp.clear();
+        }
+        if (!invalidated.isEmpty()) {
+            world.loadedTileEntityList.removeAll(invalidated);
+            invalidated.clear();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldTick(WorldTickEvent event) {
+        World world = event.world;
+        if (world.isRemote || event.phase != Phase.END)
+            return;
+        MetaTileEntityHibernation hibernation = hibernationPerWorld.get(world);
+        if (hibernation != null) {
+            hibernation.update(world);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        if (!event.getWorld().isRemote) {
+            hibernationPerWorld.remove(event.getWorld());
+        }
+    }
+}
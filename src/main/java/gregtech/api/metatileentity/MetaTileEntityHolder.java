@@ -16,9 +16,11 @@ import gregtech.api.cover.CoverBehavior;
 import gregtech.api.gui.IUIHolder;
 import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
 import gregtech.api.util.GTLog;
+import gregtech.api.util.GTProfiler;
 import gregtech.api.util.GTUtility;
 import gregtech.client.particle.GTNameTagParticle;
 import gregtech.client.particle.GTParticleManager;
+import gregtech.common.ConfigHolder;
 import gregtech.core.network.packets.PacketRecoverMTE;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
@@ -57,6 +59,8 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
 
     MetaTileEntity metaTileEntity;
     private boolean needToUpdateLightning = false;
+    // if this holder is not ticking, or about to stop ticking, managed by MetaTileEntityHibernation
+    boolean hibernating = false;
     private String customName;
     @SideOnly(Side.CLIENT)
     private GTNameTagParticle nameTagParticle;
@@ -156,12 +160,26 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
         return compound;
     }
 
+    /**
+     * Makes this holder tick again, if it is hibernating
+     */
+    @Override
+    public void wakeUp() {
+        if (hibernating) {
+            MetaTileEntityHibernation.wakeUp(this);
+        }
+    }
+
     @Override
     public void invalidate() {
         if (metaTileEntity != null) {
+            metaTileEntity.invalidateNeighborCache();
             metaTileEntity.invalidate();
         }
         super.invalidate();
+        if (hibernating) {
+            MetaTileEntityHibernation.remove(this, true);
+        }
         if (Loader.isModLoaded(GTValues.MODID_APPENG)) {
             invalidateAE();
         }
@@ -204,8 +222,18 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
                 timeStatistics[timeStatisticsIndex] = (int) tickTime;
                 timeStatisticsIndex = (timeStatisticsIndex + 1) % timeStatistics.length;
             }
+            if (GTProfiler.isRunning()) {
+                GTProfiler.recordTick(getMetaTileEntity().getClass(), world.provider.getDimension(), tickTime);
+            }
             if (tickTime > 100_000_000L && getMetaTileEntity().doTickProfileMessage() && lagWarningCount++ < 10)
                 GTLog.logger.warn("WARNING: Possible Lag Source at [" + getPos().getX() + ", " + getPos().getY() + ", " + getPos().getZ() + "] in Dimension " + world.provider.getDimension() + " with " + tickTime + "ns caused by an instance of " + getMetaTileEntity().getClass());
+
+            // only on ticks the comparator values were updated, so they are never left outdated.
+            // Pending light updates were already done above
+            if (ConfigHolder.machines.machineHibernation && getOffsetTimer() % 5 == 0 &&
+                    getMetaTileEntity().shouldHibernate()) {
+                MetaTileEntityHibernation.hibernate(this);
+            }
         }
 
         //increment only after current tick, so meta tile entities will get first tick as timer == 0
@@ -340,7 +368,11 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
     @Override
     public void onChunkUnload() {
         super.onChunkUnload();
+        if (hibernating) {
+            MetaTileEntityHibernation.remove(this, false);
+        }
         if (metaTileEntity != null) {
+            metaTileEntity.invalidateNeighborCache();
             metaTileEntity.onUnload();
         }
         if (Loader.isModLoaded(GTValues.MODID_APPENG)) {
@@ -22,6 +22,7 @@ import gregtech.api.util.GTUtility;
 import gregtech.client.renderer.ICubeRenderer;
 import gregtech.client.renderer.texture.Textures;
 import gregtech.client.utils.RenderUtil;
+import gregtech.common.ConfigHolder;
 import net.minecraft.client.resources.I18n;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
@@ -35,6 +36,7 @@ import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraft.world.World;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.fluids.IFluidTank;
 import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fml.relauncher.Side;
@@ -81,7 +83,12 @@ public class SimpleMachineMetaTileEntity extends WorkableTieredMetaTileEntity im
                                        Function<Integer, Integer> tankScalingFunction) {
         super(metaTileEntityId, recipeMap, renderer, tier, tankScalingFunction);
         this.hasFrontFacing = hasFrontFacing;
-        this.chargerInventory = new ItemStackHandler(1);
+        this.chargerInventory = new ItemStackHandler(1) {
+            @Override
+            protected void onContentsChanged(int slot) {
+                markDirty();
+            }
+        };
     }
 
     @Override
@@ -184,6 +191,23 @@ public class SimpleMachineMetaTileEntity extends WorkableTieredMetaTileEntity im
         }
     }
 
+    @Override
+    protected boolean canHibernate() {
+        if (!chargerInventory.getStackInSlot(0).isEmpty()) return false;
+        if (isAutoOutputItems()) {
+            for (int i = 0; i < exportItems.getSlots(); i++) {
+                if (!exportItems.getStackInSlot(i).isEmpty()) return false;
+            }
+        }
+        if (isAutoOutputFluids()) {
+            for (IFluidTank tank : exportFluids) {
+                if (tank.getFluidAmount() > 0) return false;
+            }
+        }
+        // keep checking for weather and terrain explosions
+        return !ConfigHolder.machines.doTerrainExplosion || getIsWeatherOrTerrainResistant() || energyContainer.getEnergyStored() == 0;
+    }
+
     @Override
     public boolean onScrewdriverClick(EntityPlayer playerIn, EnumHand hand, EnumFacing facing, CuboidRayTraceResult hitResult) {
         if (!getWorld().isRemote) {
@@ -1,7 +1,9 @@
 package gregtech.api.metatileentity;
 
 import gregtech.api.block.BlockStateTileEntity;
+import gregtech.common.ConfigHolder;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
@@ -15,20 +17,43 @@ import net.minecraft.network.play.server.SPacketUpdateTileEntity;
 import net.minecraftforge.common.util.Constants;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.function.Consumer;
 
 public abstract class SyncedTileEntityBase extends BlockStateTileEntity {
 
+    protected final Int2ObjectMap<byte[]> updates = new Int2ObjectArrayMap<>(5);
+
+    // custom data written this tick, sent by CustomDataSyncHandler at the end of the tick
+    private ByteBuf customData;
+    private long loadTime = Long.MAX_VALUE;
+
     public abstract void writeInitialSyncData(PacketBuffer buf);
 
     public abstract void receiveInitialSyncData(PacketBuffer buf);
 
     public abstract void receiveCustomData(int discriminator, PacketBuffer buf);
 
-    protected final Int2ObjectMap<byte[]> updates = new Int2ObjectArrayMap<>(5);
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        this.loadTime = world.getTotalWorldTime();
+    }
 
     public void writeCustomData(int discriminator, Consumer<PacketBuffer> dataWriter) {
+        if (canSendCustomDataPacket()) {
+            if (customData == null) {
+                this.customData = PooledByteBufAllocator.DEFAULT.heapBuffer();
+                CustomDataSyncHandler.markDirty(this);
+            }
+            new PacketBuffer(customData).writeVarInt(discriminator);
+            int lengthIndex = customData.writerIndex();
+            customData.writeInt(0);
+            dataWriter.accept(new PacketBuffer(customData));
+            customData.setInt(lengthIndex, customData.writerIndex() - lengthIndex - 4);
+            return;
+        }
         ByteBuf backedBuffer = Unpooled.buffer();
         dataWriter.accept(new PacketBuffer(backedBuffer));
         byte[] updateData = Arrays.copyOfRange(backedBuffer.array(), 0, backedBuffer.writerIndex());
@@ -38,6 +63,28 @@ public abstract class SyncedTileEntityBase extends BlockStateTileEntity {
         world.notifyBlockUpdate(getPos(), blockState, blockState, 0);
     }
 
+    /**
+     * The block change placing a tile entity reaches the client with the next player chunk map update, at the start of the next tick.
+     * Until the tile entity has existed for a full tick, its data is sent with the block change through {@link #getUpdatePacket()},
+     * so it can never arrive before the tile entity exists on the client.
+     *
+     * @return if custom data can be sent with a {@link gregtech.core.network.packets.PacketCustomData}
+     */
+    private boolean canSendCustomDataPacket() {
+        return ConfigHolder.misc.customDataPackets && world != null && !world.isRemote &&
+                world.getTotalWorldTime() - loadTime >= 2;
+    }
+
+    /**
+     * @return the custom data written since the last call, or null if there is none. Must be released by the caller.
+     */
+    @Nullable
+    ByteBuf takeCustomData() {
+        ByteBuf customData = this.customData;
+        this.customData = null;
+        return customData;
+    }
+
     @Override
     public SPacketUpdateTileEntity getUpdatePacket() {
         if (this.updates.isEmpty()) {
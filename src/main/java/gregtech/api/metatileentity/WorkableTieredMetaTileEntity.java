@@ -5,6 +5,7 @@ import codechicken.lib.render.pipeline.IVertexOperation;
 import codechicken.lib.vec.Matrix4;
 import gregtech.api.GTValues;
 import gregtech.api.capability.impl.*;
+import gregtech.api.metatileentity.multiblock.CleanroomIndex;
 import gregtech.api.metatileentity.multiblock.ICleanroomProvider;
 import gregtech.api.metatileentity.multiblock.ICleanroomReceiver;
 import gregtech.api.recipes.RecipeMap;
@@ -189,4 +190,15 @@ public abstract class WorkableTieredMetaTileEntity extends TieredMetaTileEntity
     public void setCleanroom(ICleanroomProvider provider) {
         this.cleanroom = provider;
     }
+
+    @Override
+    public void onCleanroomStateChanged() {
+        this.workable.checkCanRecipeProgress();
+    }
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        CleanroomIndex.onMachineLoaded(this);
+    }
 }
@@ -22,6 +22,12 @@ public interface IGregTechTileEntity extends IHasWorldObjectAndCoords, IUIHolder
 
     long getOffsetTimer(); // todo might not keep this one
 
+    /**
+     * Makes the holder tick again, if it stopped ticking because its meta tile entity had nothing to do
+     */
+    default void wakeUp() {
+    }
+
     @Deprecated
     boolean isFirstTick();
 }
@@ -0,0 +1,97 @@
+package gregtech.api.metatileentity.multiblock;
+
+import gregtech.api.GTValues;
+import gregtech.api.metatileentity.MetaTileEntity;
+import gregtech.api.util.GTUtility;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps the interiors of formed cleanrooms to their providers, per world.
+ * <p>
+ * When a machine is placed or loaded inside a cleanroom, the cleanroom is told about it directly,
+ * so changes of its interior do not need to check the whole structure again.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public class CleanroomIndex {
+
+    private static final Map<World, Map<ICleanroomProvider, StructureBoundingBox>> interiorsPerWorld = new HashMap<>();
+
+    private CleanroomIndex() {}
+
+    /**
+     * Adds a cleanroom to the index of its world, replacing the interior it was added with before
+     *
+     * @param interior the blocks inside the walls of the cleanroom
+     */
+    public static void addCleanroom(@Nonnull World world, @Nonnull ICleanroomProvider cleanroom, @Nonnull StructureBoundingBox interior) {
+        if (world.isRemote) return;
+        interiorsPerWorld.computeIfAbsent(world, k -> new Reference2ObjectLinkedOpenHashMap<>()).put(cleanroom, interior);
+    }
+
+    public static void removeCleanroom(@Nonnull World world, @Nonnull ICleanroomProvider cleanroom) {
+        Map<ICleanroomProvider, StructureBoundingBox> interiors = interiorsPerWorld.get(world);
+        if (interiors != null) {
+            interiors.remove(cleanroom);
+        }
+    }
+
+    /**
+     * @return the cleanroom whose interior contains pos, or null if there is none
+     */
+    @Nullable
+    public static ICleanroomProvider getCleanroomAt(@Nonnull World world, @Nonnull BlockPos pos) {
+        Map<ICleanroomProvider, StructureBoundingBox> interiors = interiorsPerWorld.get(world);
+        if (interiors == null) return null;
+        for (Map.Entry<ICleanroomProvider, StructureBoundingBox> entry : interiors.entrySet()) {
+            if (entry.getValue().isVecInside(pos)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Tells the cleanroom around a machine about it, if there is one
+     *
+     * @param metaTileEntity the machine which was loaded
+     */
+    public static void onMachineLoaded(@Nonnull MetaTileEntity metaTileEntity) {
+        World world = metaTileEntity.getWorld();
+        if (world == null || world.isRemote) return;
+        ICleanroomProvider cleanroom = getCleanroomAt(world, metaTileEntity.getPos());
+        if (cleanroom != null) {
+            cleanroom.onMachinePlaced(metaTileEntity);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        World world = event.getWorld();
+        if (world.isRemote || !interiorsPerWorld.containsKey(world)) return;
+        ICleanroomProvider cleanroom = getCleanroomAt(world, event.getPos());
+        if (cleanroom == null) return;
+        MetaTileEntity metaTileEntity = GTUtility.getMetaTileEntity(world, event.getPos());
+        if (metaTileEntity != null) {
+            cleanroom.onMachinePlaced(metaTileEntity);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        if (!event.getWorld().isRemote) {
+            interiorsPerWorld.remove(event.getWorld());
+        }
+    }
+}
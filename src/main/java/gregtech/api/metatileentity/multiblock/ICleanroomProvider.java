@@ -1,5 +1,8 @@
 package gregtech.api.metatileentity.multiblock;
 
+import gregtech.api.metatileentity.MetaTileEntity;
+
+import javax.annotation.Nonnull;
 import java.util.Set;
 
 /**
@@ -48,4 +51,12 @@ public interface ICleanroomProvider {
      * @return the tier {@link gregtech.api.GTValues#V} of energy the cleanroom uses at minimum
      */
     int getEnergyTier();
+
+    /**
+     * Called when a machine is placed or loaded inside the cleanroom, see {@link CleanroomIndex}
+     *
+     * @param metaTileEntity the machine inside the cleanroom
+     */
+    default void onMachinePlaced(@Nonnull MetaTileEntity metaTileEntity) {
+    }
 }
@@ -20,4 +20,10 @@ public interface ICleanroomReceiver {
      * @param provider the cleanroom to assign to this machine
      */
     void setCleanroom(ICleanroomProvider provider);
+
+    /**
+     * Called by the cleanroom when it becomes clean or stops being clean
+     */
+    default void onCleanroomStateChanged() {
+    }
 }
@@ -22,7 +22,9 @@ import gregtech.api.util.world.DummyWorld;
 import gregtech.client.renderer.ICubeRenderer;
 import gregtech.client.renderer.handler.MultiblockPreviewRenderer;
 import gregtech.client.renderer.texture.Textures;
+import gregtech.common.ConfigHolder;
 import gregtech.common.blocks.MetaBlocks;
+import it.unimi.dsi.fastutil.longs.LongCollection;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
@@ -59,6 +61,8 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
     private final Map<MultiblockAbility<Object>, List<Object>> multiblockAbilities = new HashMap<>();
     private final List<IMultiblockPart> multiblockParts = new ArrayList<>();
     private boolean structureFormed;
+    // set when a block of the formed structure changed, see MultiblockStructureIndex
+    private boolean structureChanged;
 
     public MultiblockControllerBase(ResourceLocation metaTileEntityId) {
         super(metaTileEntityId);
@@ -78,7 +82,8 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
     public void update() {
         super.update();
         if (!getWorld().isRemote) {
-            if (getOffsetTimer() % 20 == 0 || isFirstTick()) {
+            if (isFirstTick() || shouldCheckStructure()) {
+                this.structureChanged = false;
                 checkStructurePattern();
             }
             // DummyWorld is the world for the JEI preview. We do not want to update the Multi in this world,
@@ -89,6 +94,20 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
         }
     }
 
+    private boolean shouldCheckStructure() {
+        if (structureFormed && ConfigHolder.machines.eventDrivenStructureChecks) {
+            return structureChanged || getOffsetTimer() % ConfigHolder.machines.structureCheckFallbackInterval == 0;
+        }
+        return getOffsetTimer() % 20 == 0;
+    }
+
+    /**
+     * Marks the structure to be checked on the next update
+     */
+    void markStructureChanged() {
+        this.structureChanged = true;
+    }
+
     /**
      * Called when the multiblock is formed and validation predicate is matched
      */
@@ -263,16 +282,28 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
         } else if (context == null && structureFormed) {
             invalidateStructure();
         }
+        if (structureFormed && ConfigHolder.machines.eventDrivenStructureChecks && !(getWorld() instanceof DummyWorld)) {
+            MultiblockStructureIndex.addController(this, getIndexedStructurePositions());
+        }
     }
 
     protected void formStructure(PatternMatchContext context) {
     }
 
+    /**
+     * @return the positions of the formed structure which are checked again when they change,
+     * as {@link BlockPos#toLong()}
+     */
+    protected LongCollection getIndexedStructurePositions() {
+        return structurePattern.cache.keySet();
+    }
+
     public void invalidateStructure() {
         this.multiblockParts.forEach(part -> part.removeFromMultiBlock(this));
         this.multiblockAbilities.clear();
         this.multiblockParts.clear();
         this.structureFormed = false;
+        MultiblockStructureIndex.removeController(this);
         writeCustomData(STRUCTURE_FORMED, buf -> buf.writeBoolean(false));
     }
 
@@ -284,6 +315,14 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
         }
     }
 
+    @Override
+    public void onUnload() {
+        super.onUnload();
+        if (!getWorld().isRemote) {
+            MultiblockStructureIndex.removeController(this);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public <T> List<T> getAbilities(MultiblockAbility<T> ability) {
         List<T> rawList = (List<T>) multiblockAbilities.getOrDefault(ability, Collections.emptyList());
@@ -0,0 +1,102 @@
+package gregtech.api.metatileentity.multiblock;
+
+import gregtech.api.GTValues;
+import it.unimi.dsi.fastutil.longs.*;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps the blocks of formed multiblock structures to their controllers, per world.
+ * <p>
+ * When a block changes and notifies its neighbours, every controller whose structure contains it
+ * is marked to check its structure again on its next update.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public class MultiblockStructureIndex {
+
+    private static final Map<World, MultiblockStructureIndex> indexPerWorld = new HashMap<>();
+
+    private final Long2ObjectMap<List<MultiblockControllerBase>> controllersByPos = new Long2ObjectOpenHashMap<>();
+    private final Map<MultiblockControllerBase, LongSet> positionsByController = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * Adds a controller to the index of its world, replacing the positions it was added with before
+     *
+     * @param positions the positions of the structure, as {@link net.minecraft.util.math.BlockPos#toLong()}
+     */
+    public static void addController(MultiblockControllerBase controller, LongCollection positions) {
+        World world = controller.getWorld();
+        indexPerWorld.computeIfAbsent(world, k -> new MultiblockStructureIndex()).add(controller, positions);
+    }
+
+    public static void removeController(MultiblockControllerBase controller) {
+        MultiblockStructureIndex index = indexPerWorld.get(controller.getWorld());
+        if (index != null) {
+            index.remove(controller);
+        }
+    }
+
+    private void add(MultiblockControllerBase controller, LongCollection positions) {
+        LongSet oldPositions = positionsByController.get(controller);
+        if (oldPositions != null) {
+            if (oldPositions.size() == positions.size() && oldPositions.containsAll(positions)) return;
+            remove(controller);
+        }
+        LongSet newPositions = new LongOpenHashSet(positions);
+        positionsByController.put(controller, newPositions);
+        LongIterator iterator = newPositions.iterator();
+        while (iterator.hasNext()) {
+            long pos = iterator.nextLong();
+            List<MultiblockControllerBase> controllers = controllersByPos.get(pos);
+            if (controllers == null) {
+                controllers = new ArrayList<>(1);
+                controllersByPos.put(pos, controllers);
+            }
+            controllers.add(controller);
+        }
+    }
+
+    private void remove(MultiblockControllerBase controller) {
+        LongSet positions = positionsByController.remove(controller);
+        if (positions == null) return;
+        LongIterator iterator = positions.iterator();
+        while (iterator.hasNext()) {
+            long pos = iterator.nextLong();
+            List<MultiblockControllerBase> controllers = controllersByPos.get(pos);
+            if (controllers == null) continue;
+            controllers.remove(controller);
+            if (controllers.isEmpty()) {
+                controllersByPos.remove(pos);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        World world = event.getWorld();
+        if (world.isRemote) return;
+        MultiblockStructureIndex index = indexPerWorld.get(world);
+        if (index == null) return;
+        List<MultiblockControllerBase> controllers = index.controllersByPos.get(event.getPos().toLong());
+        if (controllers == null) return;
+        for (MultiblockControllerBase controller : controllers) {
+            controller.markStructureChanged();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        if (!event.getWorld().isRemote) {
+            indexPerWorld.remove(event.getWorld());
+        }
+    }
+}
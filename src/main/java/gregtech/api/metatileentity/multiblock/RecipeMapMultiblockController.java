@@ -337,4 +337,15 @@ public abstract class RecipeMapMultiblockController extends MultiblockWithDispla
     public void setCleanroom(ICleanroomProvider provider) {
         this.cleanroom = provider;
     }
+
+    @Override
+    public void onCleanroomStateChanged() {
+        this.recipeMapWorkable.checkCanRecipeProgress();
+    }
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        CleanroomIndex.onMachineLoaded(this);
+    }
 }
@@ -0,0 +1,65 @@
+package gregtech.api.pipenet;
+
+import com.google.common.collect.Iterators;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.util.math.BlockPos;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * An unmodifiable {@link BlockPos} keyed view of nodes stored by {@link BlockPos#toLong()}.
+ * <p>
+ * Lookups do not allocate, iterating creates a {@link BlockPos} for every entry.
+ */
+class NodeMapView<NodeDataType> extends AbstractMap<BlockPos, Node<NodeDataType>> {
+
+    private final Long2ObjectMap<Node<NodeDataType>> nodes;
+    private final Set<Entry<BlockPos, Node<NodeDataType>>> entrySet = new AbstractSet<Entry<BlockPos, Node<NodeDataType>>>() {
+
+        @Nonnull
+        @Override
+        public Iterator<Entry<BlockPos, Node<NodeDataType>>> iterator() {
+            return Iterators.unmodifiableIterator(Iterators.transform(nodes.long2ObjectEntrySet().iterator(),
+                    entry -> new SimpleImmutableEntry<>(BlockPos.fromLong(entry.getLongKey()), entry.getValue())));
+        }
+
+        @Override
+        public int size() {
+            return nodes.size();
+        }
+    };
+
+    NodeMapView(Long2ObjectMap<Node<NodeDataType>> nodes) {
+        this.nodes = nodes;
+    }
+
+    @Override
+    public Node<NodeDataType> get(Object key) {
+        return key instanceof BlockPos ? nodes.get(((BlockPos) key).toLong()) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof BlockPos && nodes.containsKey(((BlockPos) key).toLong());
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    @Nonnull
+    @Override
+    public Set<Entry<BlockPos, Node<NodeDataType>>> entrySet() {
+        return entrySet;
+    }
+}
@@ -4,6 +4,16 @@ import gnu.trove.map.TIntObjectMap;
 import gnu.trove.map.TObjectIntMap;
 import gnu.trove.map.hash.TIntObjectHashMap;
 import gnu.trove.map.hash.TObjectIntHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.EnumFacing;
@@ -15,14 +25,16 @@ import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.INBTSerializable;
 
 import java.util.*;
-import java.util.Map.Entry;
 
 public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCompound> {
 
     protected final WorldPipeNet<NodeDataType, PipeNet<NodeDataType>> worldData;
-    private final Map<BlockPos, Node<NodeDataType>> nodeByBlockPos = new HashMap<>();
-    private final Map<BlockPos, Node<NodeDataType>> unmodifiableNodeByBlockPos = Collections.unmodifiableMap(nodeByBlockPos);
-    private final Map<ChunkPos, Integer> ownedChunks = new HashMap<>();
+    // nodes keyed by BlockPos#toLong and node counts keyed by ChunkPos#asLong
+    private final Long2ObjectMap<Node<NodeDataType>> nodeByBlockPos = new Long2ObjectOpenHashMap<>();
+    private final Map<BlockPos, Node<NodeDataType>> unmodifiableNodeByBlockPos = new NodeMapView<>(nodeByBlockPos);
+    private final Long2IntMap ownedChunks = new Long2IntOpenHashMap();
+    // rebuilt from ownedChunks when a chunk is added or removed
+    private Set<ChunkPos> containedChunks;
     private long lastUpdate;
     boolean isValid = false;
 
@@ -31,8 +43,20 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
         this.worldData = (WorldPipeNet<NodeDataType, PipeNet<NodeDataType>>) world;
     }
 
+    /**
+     * @return a snapshot of the chunks containing nodes of this net
+     */
     public Set<ChunkPos> getContainedChunks() {
-        return Collections.unmodifiableSet(ownedChunks.keySet());
+        if (this.containedChunks == null) {
+            Set<ChunkPos> chunks = new HashSet<>();
+            LongIterator iterator = ownedChunks.keySet().iterator();
+            while (iterator.hasNext()) {
+                long chunkKey = iterator.nextLong();
+                chunks.add(new ChunkPos((int) chunkKey, (int) (chunkKey >>> 32)));
+            }
+            this.containedChunks = Collections.unmodifiableSet(chunks);
+        }
+        return this.containedChunks;
     }
 
     public World getWorldData() {
@@ -68,14 +92,18 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
     }
 
     public Node<NodeDataType> getNodeAt(BlockPos blockPos) {
-        return nodeByBlockPos.get(blockPos);
+        return nodeByBlockPos.get(blockPos.toLong());
     }
 
     public boolean containsNode(BlockPos blockPos) {
-        return nodeByBlockPos.containsKey(blockPos);
+        return nodeByBlockPos.containsKey(blockPos.toLong());
     }
 
     protected void addNodeSilently(BlockPos nodePos, Node<NodeDataType> node) {
+        addNodeSilently(nodePos.toLong(), node);
+    }
+
+    private void addNodeSilently(long nodePos, Node<NodeDataType> node) {
         this.nodeByBlockPos.put(nodePos, node);
         checkAddedInChunk(nodePos);
     }
@@ -87,38 +115,90 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
     }
 
     protected Node<NodeDataType> removeNodeWithoutRebuilding(BlockPos nodePos) {
+        return removeNodeWithoutRebuilding(nodePos.toLong());
+    }
+
+    private Node<NodeDataType> removeNodeWithoutRebuilding(long nodePos) {
         Node<NodeDataType> removedNode = this.nodeByBlockPos.remove(nodePos);
         ensureRemovedFromChunk(nodePos);
         worldData.markDirty();
         return removedNode;
     }
 
+    private void removeNodesWithoutRebuilding(Long2ObjectMap<Node<NodeDataType>> nodes) {
+        LongIterator iterator = nodes.keySet().iterator();
+        while (iterator.hasNext()) {
+            removeNodeWithoutRebuilding(iterator.nextLong());
+        }
+    }
+
     protected void removeNode(BlockPos nodePos) {
-        if (nodeByBlockPos.containsKey(nodePos)) {
+        if (containsNode(nodePos)) {
             Node<NodeDataType> selfNode = removeNodeWithoutRebuilding(nodePos);
             rebuildNetworkOnNodeRemoval(nodePos, selfNode);
         }
     }
 
+    /**
+     * @return the ChunkPos#asLong key of the chunk containing a BlockPos#toLong position
+     */
+    private static long getChunkKey(long nodePos) {
+        // unpacks the x and z block coordinates the same way BlockPos#fromLong does
+        int x = (int) (nodePos >> 38);
+        int z = (int) (nodePos << 38 >> 38);
+        return ChunkPos.asLong(x >> 4, z >> 4);
+    }
+
+    /**
+     * Sets a mutable position to a BlockPos#toLong position without allocating
+     */
+    private static MutableBlockPos setFromLong(MutableBlockPos mutablePos, long nodePos) {
+        // unpacks the coordinates the same way BlockPos#fromLong does
+        return mutablePos.setPos((int) (nodePos >> 38), (int) (nodePos << 26 >> 52), (int) (nodePos << 38 >> 38));
+    }
+
+    /**
+     * @deprecated use {@link #addNode(BlockPos, Node)}, which keeps track of the chunks of this net
+     */
+    @Deprecated
     protected void checkAddedInChunk(BlockPos nodePos) {
-        ChunkPos chunkPos = new ChunkPos(nodePos);
-        int newValue = this.ownedChunks.compute(chunkPos, (pos, old) -> (old == null ? 0 : old) + 1);
-        if (newValue == 1 && isValid()) {
-            this.worldData.addPipeNetToChunk(chunkPos, this);
-        }
+        checkAddedInChunk(nodePos.toLong());
     }
 
+    /**
+     * @deprecated use {@link #removeNodeWithoutRebuilding(BlockPos)}, which keeps track of the chunks of this net
+     */
+    @Deprecated
     protected void ensureRemovedFromChunk(BlockPos nodePos) {
-        ChunkPos chunkPos = new ChunkPos(nodePos);
-        int newValue = this.ownedChunks.compute(chunkPos, (pos, old) -> old == null ? 0 : old - 1);
-        if (newValue == 0) {
-            this.ownedChunks.remove(chunkPos);
+        ensureRemovedFromChunk(nodePos.toLong());
+    }
+
+    private void checkAddedInChunk(long nodePos) {
+        long chunkKey = getChunkKey(nodePos);
+        int newValue = this.ownedChunks.get(chunkKey) + 1;
+        this.ownedChunks.put(chunkKey, newValue);
+        if (newValue == 1) {
+            this.containedChunks = null;
             if (isValid()) {
-                this.worldData.removePipeNetFromChunk(chunkPos, this);
+                this.worldData.addPipeNetToChunk(new ChunkPos((int) chunkKey, (int) (chunkKey >>> 32)), this);
             }
         }
     }
 
+    private void ensureRemovedFromChunk(long nodePos) {
+        long chunkKey = getChunkKey(nodePos);
+        int newValue = this.ownedChunks.get(chunkKey) - 1;
+        if (newValue <= 0) {
+            this.ownedChunks.remove(chunkKey);
+            this.containedChunks = null;
+            if (isValid()) {
+                this.worldData.removePipeNetFromChunk(new ChunkPos((int) chunkKey, (int) (chunkKey >>> 32)), this);
+            }
+        } else {
+            this.ownedChunks.put(chunkKey, newValue);
+        }
+    }
+
     protected void updateBlockedConnections(BlockPos nodePos, EnumFacing facing, boolean isBlocked) {
         if (!containsNode(nodePos)) {
             return;
@@ -144,17 +224,11 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
                 //need to unblock node before doing canNodesConnectCheck
                 setBlocked(selfNode, facing, false);
                 if (canNodesConnect(selfNode, facing, getNodeAt(offsetPos), this)) {
-                    //now block again to call findAllConnectedBlocks
+                    //now block again to call findDisconnectedParts
                     setBlocked(selfNode, facing, true);
-                    HashMap<BlockPos, Node<NodeDataType>> thisENet = findAllConnectedBlocks(nodePos);
-                    if (!getAllNodes().equals(thisENet)) {
-                        //node visibility has changed, split network into 2
-                        //node that code below is similar to removeNodeInternal, but only for 2 networks, and without node removal
-                        PipeNet<NodeDataType> newPipeNet = worldData.createNetInstance();
-                        thisENet.keySet().forEach(this::removeNodeWithoutRebuilding);
-                        newPipeNet.transferNodeData(thisENet, this);
-                        worldData.addPipeNet(newPipeNet);
-                    }
+                    //if node visibility has changed, split network into 2
+                    //node that code below is similar to removeNodeInternal, but only for 2 networks, and without node removal
+                    splitNetwork(findDisconnectedParts(new long[]{nodePos.toLong(), offsetPos.toLong()}));
                 }
             }
             //there is another network on that side
@@ -178,7 +252,7 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
         if (!containsNode(nodePos)) {
             return;
         }
-        HashMap<BlockPos, Node<NodeDataType>> selfConnectedBlocks = null;
+        Long2ObjectMap<Node<NodeDataType>> selfConnectedBlocks = null;
         Node<NodeDataType> selfNode = getNodeAt(nodePos);
         int oldMark = selfNode.mark;
         selfNode.mark = newMark;
@@ -204,17 +278,18 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
                 //search connected nodes from newly marked node
                 //populate self connected blocks lazily only once
                 if (selfConnectedBlocks == null) {
-                    selfConnectedBlocks = findAllConnectedBlocks(nodePos);
+                    selfConnectedBlocks = findAllConnectedNodes(nodePos);
                 }
-                if (getAllNodes().equals(selfConnectedBlocks)) {
+                //connected blocks are always a subset of this network, so equal sizes mean equal sets
+                if (nodeByBlockPos.size() == selfConnectedBlocks.size()) {
                     continue; //if this node is still connected to this network, just continue
                 }
                 //otherwise, it is not connected
-                HashMap<BlockPos, Node<NodeDataType>> offsetConnectedBlocks = findAllConnectedBlocks(offsetPos);
+                Long2ObjectMap<Node<NodeDataType>> offsetConnectedBlocks = findAllConnectedNodes(offsetPos);
                 //if in the result of remarking offset node has separated from main network,
                 //and it is also separated from current cable too, form new network for it
-                if (!offsetConnectedBlocks.equals(selfConnectedBlocks)) {
-                    offsetConnectedBlocks.keySet().forEach(this::removeNodeWithoutRebuilding);
+                if (!offsetConnectedBlocks.containsKey(nodePos.toLong())) {
+                    removeNodesWithoutRebuilding(offsetConnectedBlocks);
                     PipeNet<NodeDataType> offsetPipeNet = worldData.createNetInstance();
                     offsetPipeNet.transferNodeData(offsetConnectedBlocks, this);
                     worldData.addPipeNet(offsetPipeNet);
@@ -244,9 +319,9 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
     }
 
     protected final void uniteNetworks(PipeNet<NodeDataType> unitedPipeNet) {
-        Map<BlockPos, Node<NodeDataType>> allNodes = new HashMap<>(unitedPipeNet.getAllNodes());
+        Long2ObjectMap<Node<NodeDataType>> allNodes = new Long2ObjectOpenHashMap<>(unitedPipeNet.nodeByBlockPos);
         worldData.removePipeNet(unitedPipeNet);
-        allNodes.keySet().forEach(unitedPipeNet::removeNodeWithoutRebuilding);
+        unitedPipeNet.removeNodesWithoutRebuilding(allNodes);
         transferNodeData(allNodes, unitedPipeNet);
     }
 
@@ -269,21 +344,34 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
                 areNodesCustomContactable(first.data, second.data, secondPipeNet);
     }
 
-    //we need to search only this network
+    /**
+     * @deprecated use {@link #findAllConnectedNodes(BlockPos)}
+     */
+    @Deprecated
     protected HashMap<BlockPos, Node<NodeDataType>> findAllConnectedBlocks(BlockPos startPos) {
-        HashMap<BlockPos, Node<NodeDataType>> observedSet = new HashMap<>();
-        observedSet.put(startPos, getNodeAt(startPos));
+        HashMap<BlockPos, Node<NodeDataType>> connectedBlocks = new HashMap<>();
+        for (Long2ObjectMap.Entry<Node<NodeDataType>> entry : findAllConnectedNodes(startPos).long2ObjectEntrySet()) {
+            connectedBlocks.put(BlockPos.fromLong(entry.getLongKey()), entry.getValue());
+        }
+        return connectedBlocks;
+    }
+
+    //we need to search only this network
+    protected Long2ObjectMap<Node<NodeDataType>> findAllConnectedNodes(BlockPos startPos) {
+        Long2ObjectMap<Node<NodeDataType>> observedSet = new Long2ObjectOpenHashMap<>();
         Node<NodeDataType> firstNode = getNodeAt(startPos);
+        observedSet.put(startPos.toLong(), firstNode);
         MutableBlockPos currentPos = new MutableBlockPos(startPos);
         Deque<EnumFacing> moveStack = new ArrayDeque<>();
         main:
         while (true) {
             for (EnumFacing facing : EnumFacing.VALUES) {
                 currentPos.move(facing);
-                Node<NodeDataType> secondNode = getNodeAt(currentPos);
+                long currentKey = currentPos.toLong();
+                Node<NodeDataType> secondNode = nodeByBlockPos.get(currentKey);
                 //if there is node, and it can connect with previous node, add it to list, and set previous node as current
-                if (secondNode != null && canNodesConnect(firstNode, facing, secondNode, this) && !observedSet.containsKey(currentPos)) {
-                    observedSet.put(currentPos.toImmutable(), getNodeAt(currentPos));
+                if (secondNode != null && canNodesConnect(firstNode, facing, secondNode, this) && !observedSet.containsKey(currentKey)) {
+                    observedSet.put(currentKey, secondNode);
                     firstNode = secondNode;
                     moveStack.push(facing.getOpposite());
                     continue main;
@@ -297,41 +385,128 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
         return observedSet;
     }
 
-    //called when node is removed to rebuild network
-    protected void rebuildNetworkOnNodeRemoval(BlockPos nodePos, Node<NodeDataType> selfNode) {
-        int amountOfConnectedSides = 0;
-        for (EnumFacing facing : EnumFacing.values()) {
-            BlockPos offsetPos = nodePos.offset(facing);
-            if (containsNode(offsetPos))
-                amountOfConnectedSides++;
+    /**
+     * Searches from all start nodes at once, expanding one node per search in turn, and merges searches which meet.
+     * A search which runs out of nodes without meeting the others found a part of this network
+     * which is no longer connected to the rest. The search stops as soon as a single unfinished search is left,
+     * so the cost depends on the size of the disconnected parts and not on the size of the network.
+     * <p>
+     * All nodes of this network must be connected to at least one of the start nodes.
+     *
+     * @param startPositions the BlockPos#toLong positions of the nodes to search from, all contained in this network
+     * @return the disconnected parts, never including the largest part which keeps this network
+     */
+    private List<Long2ObjectMap<Node<NodeDataType>>> findDisconnectedParts(long[] startPositions) {
+        int searches = startPositions.length;
+        if (searches < 2) return Collections.emptyList();
+        LongArrayFIFOQueue[] queues = new LongArrayFIFOQueue[searches];
+        // union-find of searches which met each other
+        int[] parents = new int[searches];
+        Long2IntMap owners = new Long2IntOpenHashMap();
+        owners.defaultReturnValue(-1);
+        for (int i = 0; i < searches; i++) {
+            queues[i] = new LongArrayFIFOQueue();
+            parents[i] = i;
+            owners.put(startPositions[i], i);
+            queues[i].enqueue(startPositions[i]);
         }
-        //if we are connected only on one side or not connected at all, we don't need to find connected blocks
-        //because they are only on on side or doesn't exist at all
-        //this saves a lot of performance in big networks, which are quite big to depth-first them fastly
-        if (amountOfConnectedSides >= 2) {
-            for (EnumFacing facing : EnumFacing.VALUES) {
-                BlockPos offsetPos = nodePos.offset(facing);
-                Node<NodeDataType> secondNode = getNodeAt(offsetPos);
-                if (secondNode == null || !canNodesConnect(selfNode, facing, secondNode, this)) {
-                    //if there isn't any neighbour node, or it wasn't connected with us, just skip it
-                    continue;
+
+        IntList finishedSearches = new IntArrayList();
+        int unfinished = searches;
+        MutableBlockPos currentPos = new MutableBlockPos();
+        while (unfinished > 1) {
+            for (int i = 0; i < searches && unfinished > 1; i++) {
+                if (queues[i].isEmpty()) continue;
+                long pos = queues[i].dequeueLong();
+                Node<NodeDataType> node = nodeByBlockPos.get(pos);
+                for (EnumFacing facing : EnumFacing.VALUES) {
+                    setFromLong(currentPos, pos).move(facing);
+                    long offsetPos = currentPos.toLong();
+                    Node<NodeDataType> secondNode = nodeByBlockPos.get(offsetPos);
+                    if (secondNode == null || !canNodesConnect(node, facing, secondNode, this)) continue;
+                    int owner = owners.get(offsetPos);
+                    if (owner == -1) {
+                        owners.put(offsetPos, i);
+                        queues[i].enqueue(offsetPos);
+                    } else {
+                        int root = findSearchRoot(parents, i);
+                        int otherRoot = findSearchRoot(parents, owner);
+                        if (root != otherRoot) {
+                            parents[otherRoot] = root;
+                            unfinished--;
+                        }
+                    }
                 }
-                HashMap<BlockPos, Node<NodeDataType>> thisENet = findAllConnectedBlocks(offsetPos);
-                if (getAllNodes().equals(thisENet)) {
-                    //if cable on some direction contains all nodes of this network
-                    //the network didn't change so keep it as is
-                    break;
-                } else {
-                    //and use them to create new network with caching active nodes set
-                    PipeNet<NodeDataType> energyNet = worldData.createNetInstance();
-                    //remove blocks that aren't connected with this network
-                    thisENet.keySet().forEach(this::removeNodeWithoutRebuilding);
-                    energyNet.transferNodeData(thisENet, this);
-                    worldData.addPipeNet(energyNet);
+                if (queues[i].isEmpty() && isSearchFinished(parents, queues, i)) {
+                    finishedSearches.add(findSearchRoot(parents, i));
+                    unfinished--;
                 }
             }
         }
-        if (getAllNodes().isEmpty()) {
+        if (finishedSearches.isEmpty()) return Collections.emptyList();
+
+        List<Long2ObjectMap<Node<NodeDataType>>> parts = new ArrayList<>(finishedSearches.size());
+        for (int i = 0; i < finishedSearches.size(); i++) {
+            parts.add(new Long2ObjectOpenHashMap<>());
+        }
+        for (Long2IntMap.Entry entry : owners.long2IntEntrySet()) {
+            int part = finishedSearches.indexOf(findSearchRoot(parents, entry.getIntValue()));
+            if (part != -1) {
+                parts.get(part).put(entry.getLongKey(), nodeByBlockPos.get(entry.getLongKey()));
+            }
+        }
+        return parts;
+    }
+
+    private static int findSearchRoot(int[] parents, int search) {
+        while (parents[search] != search) {
+            search = parents[search];
+        }
+        return search;
+    }
+
+    private static boolean isSearchFinished(int[] parents, LongArrayFIFOQueue[] queues, int search) {
+        int root = findSearchRoot(parents, search);
+        for (int i = 0; i < queues.length; i++) {
+            if (!queues[i].isEmpty() && findSearchRoot(parents, i) == root) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Moves every part into a new network
+     */
+    private void splitNetwork(List<Long2ObjectMap<Node<NodeDataType>>> parts) {
+        for (Long2ObjectMap<Node<NodeDataType>> part : parts) {
+            //and use them to create new network with caching active nodes set
+            PipeNet<NodeDataType> pipeNet = worldData.createNetInstance();
+            //remove blocks that aren't connected with this network
+            removeNodesWithoutRebuilding(part);
+            pipeNet.transferNodeData(part, this);
+            worldData.addPipeNet(pipeNet);
+        }
+    }
+
+    //called when node is removed to rebuild network
+    protected void rebuildNetworkOnNodeRemoval(BlockPos nodePos, Node<NodeDataType> selfNode) {
+        LongList connectedSides = new LongArrayList(EnumFacing.VALUES.length);
+        for (EnumFacing facing : EnumFacing.VALUES) {
+            BlockPos offsetPos = nodePos.offset(facing);
+            Node<NodeDataType> secondNode = getNodeAt(offsetPos);
+            if (secondNode != null && canNodesConnect(selfNode, facing, secondNode, this)) {
+                connectedSides.add(offsetPos.toLong());
+            }
+        }
+        //if we are connected only on one side or not connected at all, we don't need to search
+        //because the remaining nodes are only on one side or don't exist at all
+        //otherwise only the parts which got disconnected are searched completely,
+        //this saves a lot of performance in big networks, which are quite big to flood fill them fastly
+        if (connectedSides.size() >= 2) {
+            splitNetwork(findDisconnectedParts(connectedSides.toLongArray()));
+        }
+        if (nodeByBlockPos.isEmpty()) {
             //if this energy net is empty now, remove it
             worldData.removePipeNet(this);
         }
@@ -353,9 +528,13 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
      * For example, for fluid pipes it would remove amount of fluid contained in old nodes
      * from parent network and add it to it's own tank, keeping network contents when old network is split
      * Note that it should be called when parent net doesn't have transferredNodes in allNodes already
+     *
+     * @param transferredNodes the nodes to transfer, keyed by {@link BlockPos#toLong()}
      */
-    protected void transferNodeData(Map<BlockPos, Node<NodeDataType>> transferredNodes, PipeNet<NodeDataType> parentNet) {
-        transferredNodes.forEach(this::addNodeSilently);
+    protected void transferNodeData(Long2ObjectMap<Node<NodeDataType>> transferredNodes, PipeNet<NodeDataType> parentNet) {
+        for (Long2ObjectMap.Entry<Node<NodeDataType>> entry : transferredNodes.long2ObjectEntrySet()) {
+            addNodeSilently(entry.getLongKey(), entry.getValue());
+        }
         onNodeConnectionsUpdate();
         worldData.markDirty();
     }
@@ -383,6 +562,7 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
     public void deserializeNBT(NBTTagCompound nbt) {
         this.nodeByBlockPos.clear();
         this.ownedChunks.clear();
+        this.containedChunks = null;
         deserializeAllNodeList(nbt.getCompoundTag("Nodes"));
     }
 
@@ -390,6 +570,7 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
         NBTTagList allNodesList = compound.getTagList("NodeIndexes", NBT.TAG_COMPOUND);
         NBTTagList wirePropertiesList = compound.getTagList("WireProperties", NBT.TAG_COMPOUND);
         TIntObjectMap<NodeDataType> readProperties = new TIntObjectHashMap<>();
+        MutableBlockPos blockPos = new MutableBlockPos();
 
         for (int i = 0; i < wirePropertiesList.tagCount(); i++) {
             NBTTagCompound propertiesTag = wirePropertiesList.getCompoundTagAt(i);
@@ -404,24 +585,24 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
             int y = nodeTag.getInteger("y");
             int z = nodeTag.getInteger("z");
             int wirePropertiesIndex = nodeTag.getInteger("index");
-            BlockPos blockPos = new BlockPos(x, y, z);
+            blockPos.setPos(x, y, z);
             NodeDataType nodeData = readProperties.get(wirePropertiesIndex);
             int openConnections = nodeTag.getInteger("open");
             int mark = nodeTag.getInteger("mark");
             boolean isNodeActive = nodeTag.getBoolean("active");
-            addNodeSilently(blockPos, new Node<>(nodeData, openConnections, mark, isNodeActive));
+            addNodeSilently(blockPos.toLong(), new Node<>(nodeData, openConnections, mark, isNodeActive));
         }
     }
 
-    protected NBTTagCompound serializeAllNodeList(Map<BlockPos, Node<NodeDataType>> allNodes) {
+    protected NBTTagCompound serializeAllNodeList(Long2ObjectMap<Node<NodeDataType>> allNodes) {
         NBTTagCompound compound = new NBTTagCompound();
         NBTTagList allNodesList = new NBTTagList();
         NBTTagList wirePropertiesList = new NBTTagList();
         TObjectIntMap<NodeDataType> alreadyWritten = new TObjectIntHashMap<>(10, 0.5f, -1);
         int currentIndex = 0;
 
-        for (Entry<BlockPos, Node<NodeDataType>> entry : allNodes.entrySet()) {
-            BlockPos nodePos = entry.getKey();
+        for (Long2ObjectMap.Entry<Node<NodeDataType>> entry : allNodes.long2ObjectEntrySet()) {
+            BlockPos nodePos = BlockPos.fromLong(entry.getLongKey());
             Node<NodeDataType> node = entry.getValue();
             NBTTagCompound nodeTag = new NBTTagCompound();
             nodeTag.setInteger("x", nodePos.getX());
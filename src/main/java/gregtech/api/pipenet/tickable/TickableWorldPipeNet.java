@@ -1,5 +1,6 @@
 package gregtech.api.pipenet.tickable;
 
+import com.google.common.annotations.VisibleForTesting;
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
 import net.minecraft.util.ITickable;
@@ -16,12 +17,13 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
     private final Map<T, List<ChunkPos>> loadedChunksByPipeNet = new HashMap<>();
     private final Set<T> tickingPipeNets = new HashSet<>();
     private final Set<T> removeLater = new HashSet<>();
+    private final Set<T> addLater = new HashSet<>();
 
     public TickableWorldPipeNet(String name) {
         super(name);
     }
 
-    private boolean isChunkLoaded(ChunkPos chunkPos) {
+    protected boolean isChunkLoaded(ChunkPos chunkPos) {
         WorldServer worldServer = (WorldServer) getWorld();
         if (worldServer == null) return false;
         return worldServer.getChunkProvider().chunkExists(chunkPos.x, chunkPos.z);
@@ -29,24 +31,47 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
 
     protected abstract int getUpdateRate();
 
+    /**
+     * @return if the pipe nets of this world are ticked. Loaded pipe nets are not tracked at all otherwise
+     */
+    protected boolean isTickingEnabled() {
+        return true;
+    }
+
+    @VisibleForTesting
+    public boolean isTrackingPipeNets() {
+        return !tickingPipeNets.isEmpty() || !addLater.isEmpty() || !loadedChunksByPipeNet.isEmpty();
+    }
+
     public void update() {
+        updateTickingPipeNets();
         if (getWorld().getTotalWorldTime() % getUpdateRate() == 0L) {
+            // pipe nets may split or merge while ticking, so they are only added and removed outside of the loop
             tickingPipeNets.forEach(ITickable::update);
         }
-        if(removeLater.size() > 0) {
+        updateTickingPipeNets();
+    }
+
+    private void updateTickingPipeNets() {
+        if (removeLater.size() > 0) {
             removeLater.forEach(tickingPipeNets::remove);
             removeLater.clear();
         }
+        if (addLater.size() > 0) {
+            tickingPipeNets.addAll(addLater);
+            addLater.clear();
+        }
     }
 
     public void onChunkLoaded(Chunk chunk) {
+        if (!isTickingEnabled()) return;
         ChunkPos chunkPos = chunk.getPos();
-        List<T> pipeNetsInThisChunk = this.pipeNetsByChunk.get(chunkPos);
+        List<T> pipeNetsInThisChunk = this.pipeNetsByChunk.get(ChunkPos.asLong(chunkPos.x, chunkPos.z));
         if (pipeNetsInThisChunk == null) return;
         for (T pipeNet : pipeNetsInThisChunk) {
             List<ChunkPos> loadedChunks = getOrCreateChunkListForPipeNet(pipeNet);
             if (loadedChunks.isEmpty()) {
-                this.tickingPipeNets.add(pipeNet);
+                addToTicking(pipeNet);
             }
             loadedChunks.add(chunkPos);
         }
@@ -54,7 +79,7 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
 
     public void onChunkUnloaded(Chunk chunk) {
         ChunkPos chunkPos = chunk.getPos();
-        List<T> pipeNetsInThisChunk = this.pipeNetsByChunk.get(chunkPos);
+        List<T> pipeNetsInThisChunk = this.pipeNetsByChunk.get(ChunkPos.asLong(chunkPos.x, chunkPos.z));
         if (pipeNetsInThisChunk == null) return;
         for (T pipeNet : pipeNetsInThisChunk) {
             List<ChunkPos> loadedChunks = this.loadedChunksByPipeNet.get(pipeNet);
@@ -70,6 +95,7 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
     @Override
     protected void onWorldSet() {
         super.onWorldSet();
+        if (!isTickingEnabled()) return;
         Map<T, List<ChunkPos>> pipeNetByLoadedChunks = pipeNets.stream()
                 .map(pipeNet -> Pair.of(pipeNet, getPipeNetLoadedChunks(pipeNet)))
                 .filter(pair -> !pair.getRight().isEmpty())
@@ -83,10 +109,11 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
     @Override
     protected void addPipeNet(T pipeNet) {
         super.addPipeNet(pipeNet);
+        if (!isTickingEnabled()) return;
         List<ChunkPos> loadedChunks = getPipeNetLoadedChunks(pipeNet);
         if (!loadedChunks.isEmpty()) {
             this.loadedChunksByPipeNet.put(pipeNet, loadedChunks);
-            this.tickingPipeNets.add(pipeNet);
+            addToTicking(pipeNet);
         }
     }
 
@@ -104,8 +131,14 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
         }
     }
 
+    private void addToTicking(T pipeNet) {
+        this.removeLater.remove(pipeNet);
+        this.addLater.add(pipeNet);
+    }
+
     private void removeFromTicking(T pipeNet) {
         this.loadedChunksByPipeNet.remove(pipeNet);
+        this.addLater.remove(pipeNet);
         this.removeLater.add(pipeNet);
     }
 
@@ -116,10 +149,10 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
     @Override
     protected void addPipeNetToChunk(ChunkPos chunkPos, T pipeNet) {
         super.addPipeNetToChunk(chunkPos, pipeNet);
-        if (isChunkLoaded(chunkPos)) {
+        if (isTickingEnabled() && isChunkLoaded(chunkPos)) {
             List<ChunkPos> loadedChunks = getOrCreateChunkListForPipeNet(pipeNet);
             if (loadedChunks.isEmpty()) {
-                this.tickingPipeNets.add(pipeNet);
+                addToTicking(pipeNet);
             }
             loadedChunks.add(chunkPos);
         }
@@ -14,6 +14,9 @@ import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.NonNullList;
 import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.fluids.IFluidTank;
+import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
 import net.minecraftforge.oredict.OreDictionary;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -38,6 +41,11 @@ public class Recipe {
 
     private static final NonNullList<ItemStack> EMPTY = NonNullList.create();
 
+    // per-thread work arrays for matching, holding the amount left in every item slot and fluid tank
+    private static final ThreadLocal<int[][]> MATCH_AMOUNTS = ThreadLocal.withInitial(() -> new int[][]{new int[16], new int[16]});
+    private static final int ITEM_AMOUNTS = 0;
+    private static final int FLUID_AMOUNTS = 1;
+
     public static int getMaxChancedValue() {
         return 10000;
     }
@@ -151,8 +159,54 @@ public class Recipe {
         return builder.build().getResult();
     }
 
+    /**
+     * Same as {@link #matches(boolean, List, List)}, but works on the handlers directly
+     *
+     * @param consumeIfSuccessful if true will consume the inputs of the recipe.
+     * @param inputs              Items input.
+     * @param fluidInputs         Fluids input.
+     * @return true if the recipe matches the given inputs false otherwise.
+     */
     public final boolean matches(boolean consumeIfSuccessful, IItemHandlerModifiable inputs, IMultipleTankHandler fluidInputs) {
-        return matches(consumeIfSuccessful, GTUtility.itemHandlerToList(inputs), GTUtility.fluidHandlerToList(fluidInputs));
+        int[] fluidAmountInTank = getMatchAmounts(FLUID_AMOUNTS, fluidInputs.getTanks());
+        int fluidTanks = 0;
+        if (fluidInputs.getTanks() > 0) {
+            fluidTanks = matchesFluid(fluidInputs, fluidAmountInTank);
+            if (fluidTanks < 0) {
+                return false;
+            }
+        }
+
+        int[] itemAmountInSlot = getMatchAmounts(ITEM_AMOUNTS, inputs.getSlots());
+        int itemSlots = 0;
+        if (inputs.getSlots() > 0) {
+            itemSlots = matchesItems(inputs, itemAmountInSlot);
+            if (itemSlots < 0) {
+                return false;
+            }
+        }
+
+        if (consumeIfSuccessful) {
+            for (int i = 0; i < fluidTanks; i++) {
+                IFluidTank fluidTank = fluidInputs.getTankAt(i);
+                FluidStack fluidStack = fluidTank.getFluid();
+                int fluidAmount = fluidAmountInTank[i];
+                if (fluidStack == null || fluidStack.amount == fluidAmount)
+                    continue;
+                fluidStack.amount = fluidAmount;
+                if (fluidStack.amount == 0 && fluidTank instanceof FluidTank)
+                    ((FluidTank) fluidTank).setFluid(null);
+            }
+            for (int i = 0; i < itemSlots; i++) {
+                ItemStack itemInSlot = inputs.getStackInSlot(i);
+                int itemAmount = itemAmountInSlot[i];
+                if (itemInSlot.isEmpty() || itemInSlot.getCount() == itemAmount)
+                    continue;
+                itemInSlot.setCount(itemAmount);
+            }
+        }
+
+        return true;
     }
 
     /**
@@ -164,58 +218,67 @@ public class Recipe {
      * @return true if the recipe matches the given inputs false otherwise.
      */
     public boolean matches(boolean consumeIfSuccessful, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
-        Pair<Boolean, int[]> fluids = null;
-        Pair<Boolean, int[]> items = null;
-
-        if (fluidInputs.size() >0 ) {
-            fluids = matchesFluid(fluidInputs);
-            if (!fluids.getKey()) {
+        int[] fluidAmountInTank = getMatchAmounts(FLUID_AMOUNTS, fluidInputs.size());
+        int fluidTanks = 0;
+        if (fluidInputs.size() > 0) {
+            fluidTanks = matchesFluid(fluidInputs, fluidAmountInTank);
+            if (fluidTanks < 0) {
                 return false;
             }
         }
 
+        int[] itemAmountInSlot = getMatchAmounts(ITEM_AMOUNTS, inputs.size());
+        int itemSlots = 0;
         if (inputs.size() > 0) {
-            items = matchesItems(inputs);
-            if (!items.getKey()) {
+            itemSlots = matchesItems(inputs, itemAmountInSlot);
+            if (itemSlots < 0) {
                 return false;
             }
         }
 
         if (consumeIfSuccessful) {
-            if (fluids != null) {
-                int[] fluidAmountInTank = fluids.getValue();
-
-                for (int i = 0; i < fluidAmountInTank.length; i++) {
-                    FluidStack fluidStack = fluidInputs.get(i);
-                    int fluidAmount = fluidAmountInTank[i];
-                    if (fluidStack == null || fluidStack.amount == fluidAmount)
-                        continue;
-                    fluidStack.amount = fluidAmount;
-                    if (fluidStack.amount == 0)
-                        fluidInputs.set(i, null);
-                }
+            for (int i = 0; i < fluidTanks; i++) {
+                FluidStack fluidStack = fluidInputs.get(i);
+                int fluidAmount = fluidAmountInTank[i];
+                if (fluidStack == null || fluidStack.amount == fluidAmount)
+                    continue;
+                fluidStack.amount = fluidAmount;
+                if (fluidStack.amount == 0)
+                    fluidInputs.set(i, null);
             }
-            if(items != null) {
-                int[] itemAmountInSlot = items.getValue();
-                for (int i = 0; i < itemAmountInSlot.length; i++) {
-                    ItemStack itemInSlot = inputs.get(i);
-                    int itemAmount = itemAmountInSlot[i];
-                    if (itemInSlot.isEmpty() || itemInSlot.getCount() == itemAmount)
-                        continue;
-                    itemInSlot.setCount(itemAmountInSlot[i]);
-                }
+            for (int i = 0; i < itemSlots; i++) {
+                ItemStack itemInSlot = inputs.get(i);
+                int itemAmount = itemAmountInSlot[i];
+                if (itemInSlot.isEmpty() || itemInSlot.getCount() == itemAmount)
+                    continue;
+                itemInSlot.setCount(itemAmount);
             }
         }
 
         return true;
     }
 
-    private Pair<Boolean, int[]> matchesItems(List<ItemStack> inputs) {
-        int[] itemAmountInSlot = new int[inputs.size()];
+    /**
+     * @return the work array of this thread, at least {@code size} long
+     */
+    private static int[] getMatchAmounts(int type, int size) {
+        int[][] amounts = MATCH_AMOUNTS.get();
+        if (amounts[type].length < size) {
+            amounts[type] = new int[Math.max(size, amounts[type].length * 2)];
+        }
+        return amounts[type];
+    }
+
+    /**
+     * @param itemAmountInSlot receives the amount left in every checked slot after consuming the inputs
+     * @return the amount of checked slots, or -1 if the inputs are not present
+     */
+    private int matchesItems(List<ItemStack> inputs, int[] itemAmountInSlot) {
         int indexed = 0;
 
         List<GTRecipeInput> gtRecipeInputs = this.inputs;
-        for (GTRecipeInput ingredient : gtRecipeInputs) {
+        for (int i = 0; i < gtRecipeInputs.size(); i++) {
+            GTRecipeInput ingredient = gtRecipeInputs.get(i);
             int ingredientAmount = ingredient.getAmount();
             for (int j = 0; j < inputs.size(); j++) {
                 ItemStack inputStack = inputs.get(j);
@@ -233,20 +296,53 @@ public class Recipe {
                 if (ingredientAmount == 0) break;
             }
             if (ingredientAmount > 0)
-                return Pair.of(false, itemAmountInSlot);
+                return -1;
         }
-        int[] retItemAmountInSlot = new int[indexed];
-        System.arraycopy(itemAmountInSlot, 0, retItemAmountInSlot, 0, indexed);
+        return indexed;
+    }
+
+    /**
+     * Same as {@link #matchesItems(List, int[])}, reading the slots of the handler
+     */
+    private int matchesItems(IItemHandler inputs, int[] itemAmountInSlot) {
+        int indexed = 0;
+        int slots = inputs.getSlots();
+
+        List<GTRecipeInput> gtRecipeInputs = this.inputs;
+        for (int i = 0; i < gtRecipeInputs.size(); i++) {
+            GTRecipeInput ingredient = gtRecipeInputs.get(i);
+            int ingredientAmount = ingredient.getAmount();
+            for (int j = 0; j < slots; j++) {
+                ItemStack inputStack = inputs.getStackInSlot(j);
+
+                if (j == indexed) {
+                    itemAmountInSlot[j] = inputStack.isEmpty() ? 0 : inputStack.getCount();
+                    indexed++;
+                }
 
-        return Pair.of(true, retItemAmountInSlot);
+                if (inputStack.isEmpty() || !ingredient.acceptsStack(inputStack))
+                    continue;
+                int itemAmountToConsume = Math.min(itemAmountInSlot[j], ingredientAmount);
+                ingredientAmount -= itemAmountToConsume;
+                if (!ingredient.isNonConsumable()) itemAmountInSlot[j] -= itemAmountToConsume;
+                if (ingredientAmount == 0) break;
+            }
+            if (ingredientAmount > 0)
+                return -1;
+        }
+        return indexed;
     }
 
-    private Pair<Boolean, int[]> matchesFluid(List<FluidStack> fluidInputs) {
-        int[] fluidAmountInTank = new int[fluidInputs.size()];
+    /**
+     * @param fluidAmountInTank receives the amount left in every checked tank after consuming the inputs
+     * @return the amount of checked tanks, or -1 if the inputs are not present
+     */
+    private int matchesFluid(List<FluidStack> fluidInputs, int[] fluidAmountInTank) {
         int indexed = 0;
 
         List<GTRecipeInput> gtRecipeInputs = this.fluidInputs;
-        for (GTRecipeInput fluid : gtRecipeInputs) {
+        for (int i = 0; i < gtRecipeInputs.size(); i++) {
+            GTRecipeInput fluid = gtRecipeInputs.get(i);
             int fluidAmount = fluid.getAmount();
             for (int j = 0; j < fluidInputs.size(); j++) {
                 FluidStack tankFluid = fluidInputs.get(j);
@@ -264,12 +360,41 @@ public class Recipe {
                 if (fluidAmount == 0) break;
             }
             if (fluidAmount > 0)
-                return Pair.of(false, fluidAmountInTank);
+                return -1;
         }
-        int[] retfluidAmountInTank = new int[indexed];
-        System.arraycopy(fluidAmountInTank, 0, retfluidAmountInTank, 0, indexed);
+        return indexed;
+    }
+
+    /**
+     * Same as {@link #matchesFluid(List, int[])}, reading the tanks of the handler
+     */
+    private int matchesFluid(IMultipleTankHandler fluidInputs, int[] fluidAmountInTank) {
+        int indexed = 0;
+        int tanks = fluidInputs.getTanks();
+
+        List<GTRecipeInput> gtRecipeInputs = this.fluidInputs;
+        for (int i = 0; i < gtRecipeInputs.size(); i++) {
+            GTRecipeInput fluid = gtRecipeInputs.get(i);
+            int fluidAmount = fluid.getAmount();
+            for (int j = 0; j < tanks; j++) {
+                FluidStack tankFluid = fluidInputs.getTankAt(j).getFluid();
+
+                if (j == indexed) {
+                    indexed++;
+                    fluidAmountInTank[j] = tankFluid == null ? 0 : tankFluid.amount;
+                }
 
-        return Pair.of(true, retfluidAmountInTank);
+                if (tankFluid == null || !fluid.acceptsFluid(tankFluid))
+                    continue;
+                int fluidAmountToConsume = Math.min(fluidAmountInTank[j], fluidAmount);
+                fluidAmount -= fluidAmountToConsume;
+                if (!fluid.isNonConsumable()) fluidAmountInTank[j] -= fluidAmountToConsume;
+                if (fluidAmount == 0) break;
+            }
+            if (fluidAmount > 0)
+                return -1;
+        }
+        return indexed;
     }
 
     @Override
@@ -310,7 +435,7 @@ public class Recipe {
         for (GTRecipeInput otherInputs : otherRecipe.inputs) {
             otherStackList.addAll(Arrays.asList(otherInputs.getInputStacks()));
         }
-        if (!this.matchesItems(otherStackList).getLeft()) {
+        if (this.matchesItems(otherStackList, getMatchAmounts(ITEM_AMOUNTS, otherStackList.size())) < 0) {
             return false;
         }
 
@@ -318,7 +443,7 @@ public class Recipe {
         for (GTRecipeInput thisInputs : this.inputs) {
             thisStackList.addAll(Arrays.asList(thisInputs.getInputStacks()));
         }
-        return otherRecipe.matchesItems(thisStackList).getLeft();
+        return otherRecipe.matchesItems(thisStackList, getMatchAmounts(ITEM_AMOUNTS, thisStackList.size())) >= 0;
     }
 
     public static int hashFluidList(@Nonnull List<GTRecipeInput> fluids) {
@@ -335,7 +460,7 @@ public class Recipe {
             FluidStack fluidStack = otherInputs.getInputFluidStack();
             otherFluidList.add(fluidStack);
         }
-        if (!this.matchesFluid(otherFluidList).getLeft()) {
+        if (this.matchesFluid(otherFluidList, getMatchAmounts(FLUID_AMOUNTS, otherFluidList.size())) < 0) {
             return false;
         }
 
@@ -344,7 +469,7 @@ public class Recipe {
             FluidStack fluidStack = thisFluidInputs.getInputFluidStack();
             thisFluidsList.add(fluidStack);
         }
-        return otherRecipe.matchesFluid(thisFluidsList).getLeft();
+        return otherRecipe.matchesFluid(thisFluidsList, getMatchAmounts(FLUID_AMOUNTS, thisFluidsList.size())) >= 0;
     }
 
     @Override
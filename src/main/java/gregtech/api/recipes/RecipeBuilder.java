@@ -104,6 +104,7 @@ public class RecipeBuilder<R extends RecipeBuilder<R>> {
         this.duration = recipeBuilder.duration;
         this.EUt = recipeBuilder.EUt;
         this.hidden = recipeBuilder.hidden;
+        this.parallel = recipeBuilder.parallel;
         this.onBuildAction = recipeBuilder.onBuildAction;
         this.recipePropertyStorage = recipeBuilder.recipePropertyStorage;
         if (this.recipePropertyStorage != null) {
@@ -90,9 +90,11 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 
     private final VirtualizedRecipeMap virtualizedRecipeMap;
     private final Branch lookup = new Branch();
+    private final RecipeLookupMissCache lookupMissCache = new RecipeLookupMissCache();
     private boolean hasOreDictedInputs = false;
     private boolean hasNBTMatcherInputs = false;
     private static final WeakHashMap<AbstractMapIngredient, WeakReference<AbstractMapIngredient>> ingredientRoot = new WeakHashMap<>();
+    private static final ThreadLocal<RecipeLookupBuffer> LOOKUP_BUFFER = ThreadLocal.withInitial(RecipeLookupBuffer::new);
     private final WeakHashMap<AbstractMapIngredient, WeakReference<AbstractMapIngredient>> fluidIngredientRoot = new WeakHashMap<>();
 
 
@@ -287,6 +289,7 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         }
         List<List<AbstractMapIngredient>> items = fromRecipe(recipe);
         recurseIngredientTreeAdd(recipe, items, lookup, 0, 0);
+        lookupMissCache.clear();
     }
 
     /**
@@ -296,6 +299,7 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
     public boolean removeRecipe(@Nonnull Recipe recipe) {
         List<List<AbstractMapIngredient>> items = fromRecipe(recipe);
         if (recurseIngredientTreeRemove(recipe, items, lookup, 0) != null) {
+            lookupMissCache.clear();
             if (GroovyScriptCompat.isCurrentlyRunning()) {
                 this.virtualizedRecipeMap.addBackup(recipe);
             }
@@ -422,6 +426,53 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
      */
     @Nullable
     public Recipe findRecipe(long voltage, final List<ItemStack> inputs, final List<FluidStack> fluidInputs, boolean exactVoltage) {
+        final int missCacheSize = ConfigHolder.machines.recipeLookupMissCacheSize;
+        if (missCacheSize <= 0) {
+            return findRecipeBuffered(voltage, inputs, fluidInputs, exactVoltage);
+        }
+
+        // identical inputs which did not find a recipe before will not find one now, unless the recipes changed
+        long key = RecipeLookupMissCache.fingerprint(voltage, exactVoltage, inputs, fluidInputs);
+        long verification = RecipeLookupMissCache.verification(voltage, exactVoltage, inputs, fluidInputs);
+        if (lookupMissCache.isKnownMiss(key, verification)) return null;
+
+        Recipe recipe = findRecipeBuffered(voltage, inputs, fluidInputs, exactVoltage);
+        if (recipe == null) {
+            lookupMissCache.addMiss(key, verification, missCacheSize);
+        }
+        return recipe;
+    }
+
+    /**
+     * Finds a Recipe matching the Fluid and/or ItemStack Inputs, using the per-thread lookup buffer.
+     *
+     * @see #findRecipe(long, List, List, boolean)
+     */
+    @Nullable
+    private Recipe findRecipeBuffered(long voltage, final List<ItemStack> inputs, final List<FluidStack> fluidInputs, boolean exactVoltage) {
+        RecipeLookupBuffer buffer = LOOKUP_BUFFER.get();
+        if (!buffer.acquire()) {
+            // a lookup is already running on this thread, so the buffer cannot be shared
+            return findRecipeUnbuffered(voltage, inputs, fluidInputs, exactVoltage);
+        }
+        try {
+            List<List<AbstractMapIngredient>> list = prepareRecipeFind(buffer, inputs, fluidInputs);
+            // couldn't build any inputs to use for search, so no recipe could be found
+            if (list == null) return null;
+            buffer.setRequirements(voltage, exactVoltage, inputs, fluidInputs);
+            return recurseIngredientTreeFindRecipe(list, lookup, buffer);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Finds a Recipe matching the Fluid and/or ItemStack Inputs, without the use of the per-thread lookup buffer.
+     *
+     * @see #findRecipe(long, List, List, boolean)
+     */
+    @Nullable
+    private Recipe findRecipeUnbuffered(long voltage, final List<ItemStack> inputs, final List<FluidStack> fluidInputs, boolean exactVoltage) {
         final List<ItemStack> items = inputs.stream().filter(s -> !s.isEmpty()).collect(Collectors.toList());
         final List<FluidStack> fluids = fluidInputs.stream().filter(f -> f != null && f.amount != 0).collect(Collectors.toList());
 
@@ -465,6 +516,70 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         return list;
     }
 
+    /**
+     * Prepares Items and Fluids for use in recipe search, reusing the storage of a lookup buffer.
+     * Produces the same ingredients as {@link #prepareRecipeFind(Collection, Collection)}.
+     *
+     * @param buffer the buffer to build the ingredients in
+     * @param items  the items to prepare, may contain empty stacks
+     * @param fluids the fluids to prepare, may contain null or empty stacks
+     * @return the ingredients owned by the buffer, or null if there are none
+     */
+    @Nullable
+    protected List<List<AbstractMapIngredient>> prepareRecipeFind(@Nonnull RecipeLookupBuffer buffer, @Nonnull Collection<ItemStack> items,
+                                                                  @Nonnull Collection<FluidStack> fluids) {
+        List<ItemStack> uniqueItems = buffer.getItems();
+        main:
+        for (ItemStack input : items) {
+            if (input.isEmpty()) {
+                continue;
+            }
+            for (int i = 0; i < uniqueItems.size(); i++) {
+                ItemStack unique = uniqueItems.get(i);
+                if (input.isItemEqual(unique) && ItemStack.areItemStackTagsEqual(input, unique)) {
+                    continue main;
+                }
+            }
+            uniqueItems.add(input);
+        }
+
+        for (int i = 0; i < uniqueItems.size(); i++) {
+            ItemStack stack = uniqueItems.get(i);
+            int meta = stack.getMetadata();
+            NBTTagCompound nbt = stack.getTagCompound();
+
+            List<AbstractMapIngredient> ls = buffer.nextIngredientList();
+
+            // add the regular input
+            ls.add(buffer.itemIngredient(stack, meta, nbt));
+
+            if (hasOreDictedInputs) {
+                // add the ore dict inputs
+                for (int ore : OreDictionary.getOreIDs(stack)) {
+                    ls.add(buffer.oreDictIngredient(ore));
+
+                    if (hasNBTMatcherInputs) {
+                        // add the nbt inputs for the oredict inputs
+                        ls.add(buffer.oreDictNBTIngredient(ore, nbt));
+                    }
+                }
+            }
+            if (hasNBTMatcherInputs) {
+                // add the nbt input for the regular input
+                ls.add(buffer.itemNBTIngredient(stack, meta, nbt));
+            }
+        }
+
+        for (FluidStack fluid : fluids) {
+            if (fluid == null || fluid.amount == 0) continue;
+            buffer.nextIngredientList().add(buffer.fluidIngredient(fluid));
+        }
+
+        // nothing was added, so return nothing
+        List<List<AbstractMapIngredient>> list = buffer.getIngredients();
+        return list.isEmpty() ? null : list;
+    }
+
     /**
      * Finds a recipe using Items and Fluids.
      * @param items a collection of items
@@ -586,7 +701,10 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         if (count == ingredients.size()) return null;
 
         // Iterate over current level of nodes.
-        for (AbstractMapIngredient obj : ingredients.get(index)) {
+        // Indexed iteration and the non-allocating Either accessors keep the search free of garbage
+        List<AbstractMapIngredient> current = ingredients.get(index);
+        for (int i = 0; i < current.size(); i++) {
+            AbstractMapIngredient obj = current.get(i);
             // determine the root nodes
             Map<AbstractMapIngredient, Either<Recipe, Branch>> targetMap = determineRootNodes(obj, branchMap);
 
@@ -594,8 +712,14 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
             if (result != null) {
                 // if there is a recipe (left mapping), return it immediately as found, if it can be handled
                 // Otherwise, recurse and go to the next branch.
-                Recipe r = result.map(potentialRecipe -> canHandle.test(potentialRecipe) ? potentialRecipe : null,
-                        potentialBranch -> diveIngredientTreeFindRecipe(ingredients, potentialBranch, canHandle, index, count, skip));
+                Recipe r;
+                Branch potentialBranch = result.rightOrNull();
+                if (potentialBranch == null) {
+                    Recipe potentialRecipe = result.leftOrNull();
+                    r = canHandle.test(potentialRecipe) ? potentialRecipe : null;
+                } else {
+                    r = diveIngredientTreeFindRecipe(ingredients, potentialBranch, canHandle, index, count, skip);
+                }
                 if (r != null) {
                     return r;
                 }
@@ -1138,6 +1262,14 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         return lookup.getRecipes(true).filter(recipes::add).sorted(RECIPE_DURATION_THEN_EU).collect(Collectors.toList());
     }
 
+    /**
+     * @return the cache of lookups in this map which did not find a recipe
+     */
+    @Nonnull
+    public RecipeLookupMissCache getLookupMissCache() {
+        return lookupMissCache;
+    }
+
     public SoundEvent getSound() {
         return sound;
     }
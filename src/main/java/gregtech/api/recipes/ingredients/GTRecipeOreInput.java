@@ -1,5 +1,6 @@
 package gregtech.api.recipes.ingredients;
 
+import gregtech.api.unification.OreDictUnifier;
 import gregtech.api.unification.material.Material;
 import gregtech.api.unification.ore.OrePrefix;
 import gregtech.api.unification.stack.UnificationEntry;
@@ -58,7 +59,7 @@ public class GTRecipeOreInput extends GTRecipeInput {
     }
 
     //The items returned here are not updated after its first call, so they are not suitable for use while recipes are being processed and
-    //the OreDicts being modified.
+    //the OreDicts being modified. Matching stacks does not use them, see acceptsStack.
     @Override
     public ItemStack[] getInputStacks() {
         if (this.inputStacks == null) {
@@ -86,12 +87,10 @@ public class GTRecipeOreInput extends GTRecipeInput {
         if (input == null || input.isEmpty()) {
             return false;
         }
-        for (ItemStack target : getInputStacks()) {
-            if (OreDictionary.itemMatches(target, input, false)) {
-                return nbtMatcher == null || nbtMatcher.evaluate(input, nbtCondition);
-            }
+        if (!OreDictUnifier.hasOreId(input, ore)) {
+            return false;
         }
-        return false;
+        return nbtMatcher == null || nbtMatcher.evaluate(input, nbtCondition);
     }
 
     @Override
@@ -10,6 +10,7 @@ import gregtech.api.recipes.RecipeMap;
 import net.minecraftforge.items.IItemHandlerModifiable;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 public interface IParallelableRecipeLogic {
 
@@ -22,6 +23,14 @@ public interface IParallelableRecipeLogic {
     default void applyParallelBonus(@Nonnull RecipeBuilder<?> builder) {
     }
 
+    /**
+     * @return the cache of multiplied recipes used by {@link #findMultipliedParallelRecipe}, or null to not cache them
+     */
+    @Nullable
+    default MultipliedRecipeCache getMultipliedRecipeCache() {
+        return null;
+    }
+
     /**
      * Method which finds a recipe which can be parallelized, works by multiplying the recipe by the parallelization factor,
      * and shrinking the recipe till its outputs can fit
@@ -47,7 +56,8 @@ public interface IParallelableRecipeLogic {
                 fluidOutputs,
                 parallelLimit,
                 maxVoltage,
-                voidable);
+                voidable,
+                getMultipliedRecipeCache());
     }
 
     /**
@@ -0,0 +1,52 @@
+package gregtech.api.recipes.logic;
+
+import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.RecipeBuilder;
+import gregtech.api.recipes.RecipeMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Caches recipes multiplied by {@link ParallelLogic#doParallelRecipes}, keyed by the base recipe and the multiplier.
+ * <p>
+ * A machine repeatedly starting the same recipe with the same amount of parallels
+ * only copies the multiplied recipe, instead of multiplying all of its inputs and outputs again.
+ */
+public class MultipliedRecipeCache {
+
+    private static final int MAX_RECIPES = 4;
+    private static final int MAX_MULTIPLIERS_PER_RECIPE = 16;
+
+    private final Reference2ObjectLinkedOpenHashMap<Recipe, Int2ObjectMap<RecipeBuilder<?>>> multipliedRecipes = new Reference2ObjectLinkedOpenHashMap<>();
+
+    /**
+     * @param recipeMap  the recipe map of the recipe
+     * @param recipe     the recipe to multiply
+     * @param multiplier the amount of parallels
+     * @return a new builder holding the recipe multiplied by multiplier, with an EUt of the multiplied recipe
+     */
+    @Nonnull
+    public RecipeBuilder<?> getMultipliedRecipe(@Nonnull RecipeMap<?> recipeMap, @Nonnull Recipe recipe, int multiplier) {
+        Int2ObjectMap<RecipeBuilder<?>> byMultiplier = multipliedRecipes.getAndMoveToLast(recipe);
+        if (byMultiplier == null) {
+            if (multipliedRecipes.size() >= MAX_RECIPES) {
+                multipliedRecipes.removeFirst();
+            }
+            byMultiplier = new Int2ObjectOpenHashMap<>();
+            multipliedRecipes.putAndMoveToLast(recipe, byMultiplier);
+        }
+        RecipeBuilder<?> multipliedRecipe = byMultiplier.get(multiplier);
+        if (multipliedRecipe == null) {
+            if (byMultiplier.size() >= MAX_MULTIPLIERS_PER_RECIPE) {
+                byMultiplier.clear();
+            }
+            multipliedRecipe = recipeMap.recipeBuilder().EUt(0).append(recipe, multiplier, false);
+            byMultiplier.put(multiplier, multipliedRecipe);
+        }
+        // the cached builder is never handed out, as callers modify the returned builder
+        return multipliedRecipe.copy();
+    }
+}
@@ -21,6 +21,7 @@ import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.*;
 
 public abstract class ParallelLogic {
@@ -437,6 +438,14 @@ public abstract class ParallelLogic {
 
     // At this point, the recipe is already trimmed according to the item and fluid output limit, so we just need to take care of voiding
     public static RecipeBuilder<?> doParallelRecipes(@Nonnull Recipe currentRecipe, @Nonnull RecipeMap<?> recipeMap, @Nonnull IItemHandlerModifiable importInventory, @Nonnull IMultipleTankHandler importFluids, @Nonnull IItemHandlerModifiable exportInventory, @Nonnull IMultipleTankHandler exportFluids, int parallelAmount, long maxVoltage, @Nonnull IVoidable voidable) {
+        return doParallelRecipes(currentRecipe, recipeMap, importInventory, importFluids, exportInventory, exportFluids, parallelAmount, maxVoltage, voidable, null);
+    }
+
+    /**
+     * @param multipliedRecipeCache the cache to take the multiplied recipe from, or null to always multiply it again
+     * @see #doParallelRecipes(Recipe, RecipeMap, IItemHandlerModifiable, IMultipleTankHandler, IItemHandlerModifiable, IMultipleTankHandler, int, long, IVoidable)
+     */
+    public static RecipeBuilder<?> doParallelRecipes(@Nonnull Recipe currentRecipe, @Nonnull RecipeMap<?> recipeMap, @Nonnull IItemHandlerModifiable importInventory, @Nonnull IMultipleTankHandler importFluids, @Nonnull IItemHandlerModifiable exportInventory, @Nonnull IMultipleTankHandler exportFluids, int parallelAmount, long maxVoltage, @Nonnull IVoidable voidable, @Nullable MultipliedRecipeCache multipliedRecipeCache) {
         // First check if we are limited by recipe inputs. This can short circuit a lot of consecutive checking
         int multiplierByInputs = getMaxRecipeMultiplier(currentRecipe, importInventory, importFluids, parallelAmount);
         if (multiplierByInputs == 0) {
@@ -458,18 +467,25 @@ public abstract class ParallelLogic {
         int limitByOutput;
         limitByOutput = ParallelLogic.limitByOutputMerging(currentRecipe, exportInventory, exportFluids, multiplierByInputs, voidItems, voidFluids);
 
+        int multiplier = 0;
         int recipeEUt = currentRecipe.getEUt();
         if (recipeEUt != 0) {
             int limitByVoltage = Math.abs((int) (maxVoltage / recipeEUt));
             int parallelizable = Math.min(limitByVoltage, limitByOutput);
             if (parallelizable != 0)
                 // Use the minimum between the amount of recipes we can run with available inputs and amount of recipe outputs that can fit
-                recipeBuilder.append(currentRecipe, Math.min(parallelizable, multiplierByInputs), false);
+                multiplier = Math.min(parallelizable, multiplierByInputs);
         } else if (limitByOutput > 0) {
-            recipeBuilder.append(currentRecipe, limitByOutput, false);
+            multiplier = limitByOutput;
         }
 
-        return recipeBuilder;
+        if (multiplier == 0) {
+            return recipeBuilder;
+        }
+        if (multipliedRecipeCache != null) {
+            return multipliedRecipeCache.getMultipliedRecipe(recipeMap, currentRecipe, multiplier);
+        }
+        return recipeBuilder.append(currentRecipe, multiplier, false);
     }
 
     /**
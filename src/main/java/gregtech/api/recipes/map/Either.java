@@ -1,5 +1,6 @@
 package gregtech.api.recipes.map;
 
+import javax.annotation.Nullable;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -44,6 +45,16 @@ public abstract class Either<L, R> {
             return java.util.Optional.empty();
         }
 
+        @Override
+        public L leftOrNull() {
+            return value;
+        }
+
+        @Override
+        public R rightOrNull() {
+            return null;
+        }
+
         @Override
         public String toString() {
             return "Left[" + value + "]";
@@ -106,6 +117,16 @@ public abstract class Either<L, R> {
             return java.util.Optional.of(value);
         }
 
+        @Override
+        public L leftOrNull() {
+            return null;
+        }
+
+        @Override
+        public R rightOrNull() {
+            return value;
+        }
+
         @Override
         public String toString() {
             return "Right[" + value + "]";
@@ -144,6 +165,18 @@ public abstract class Either<L, R> {
 
     public abstract java.util.Optional<R> right();
 
+    /**
+     * @return the left value, or null if this is a right. Does not allocate, unlike {@link #left()}.
+     */
+    @Nullable
+    public abstract L leftOrNull();
+
+    /**
+     * @return the right value, or null if this is a left. Does not allocate, unlike {@link #right()}.
+     */
+    @Nullable
+    public abstract R rightOrNull();
+
     public <T> Either<T, R> mapLeft(final Function<? super L, ? extends T> l) {
         return map(t -> left(l.apply(t)), Either::right);
     }
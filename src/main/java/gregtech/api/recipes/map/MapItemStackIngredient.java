@@ -29,6 +29,16 @@ public class MapItemStackIngredient extends AbstractMapIngredient {
         this.gtRecipeInput = gtRecipeInput;
     }
 
+    /**
+     * Re-targets this ingredient for a lookup. Only valid for ingredients owned by a {@link RecipeLookupBuffer}.
+     */
+    void reset(ItemStack stack, int meta, NBTTagCompound tag) {
+        this.stack = stack;
+        this.meta = meta;
+        this.tag = tag;
+        invalidate();
+    }
+
     @Nonnull
     public static List<AbstractMapIngredient> from(@Nonnull GTRecipeInput r) {
         ObjectArrayList<AbstractMapIngredient> list = new ObjectArrayList<>();
@@ -8,6 +8,14 @@ public class MapOreDictIngredient extends AbstractMapIngredient {
         this.ore = ore;
     }
 
+    /**
+     * Re-targets this ingredient for a lookup. Only valid for ingredients owned by a {@link RecipeLookupBuffer}.
+     */
+    void reset(int ore) {
+        this.ore = ore;
+        invalidate();
+    }
+
     @Override
     protected int hash() {
         return ore;
@@ -26,6 +26,14 @@ public class MapOreDictNBTIngredient extends MapOreDictIngredient {
         this.nbtTagCompound = nbtTagCompound;
     }
 
+    /**
+     * Re-targets this ingredient for a lookup. Only valid for ingredients owned by a {@link RecipeLookupBuffer}.
+     */
+    void reset(int ore, @Nullable NBTTagCompound nbtTagCompound) {
+        reset(ore);
+        this.nbtTagCompound = nbtTagCompound;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
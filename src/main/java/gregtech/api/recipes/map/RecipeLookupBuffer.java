@@ -0,0 +1,206 @@
+package gregtech.api.recipes.map;
+
+import gregtech.api.recipes.Recipe;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidStack;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Reusable scratch storage for recipe lookups, intended to be held per-thread.
+ * <p>
+ * Map ingredients handed out by this buffer are mutable and re-targeted on every lookup,
+ * so once the buffer has grown to the largest input seen, searching the ingredient tree does not allocate.
+ * These ingredients must <strong>never</strong> be inserted into a {@link Branch}.
+ * <p>
+ * The buffer also acts as the recipe predicate for the lookup, replacing a capturing lambda.
+ */
+public class RecipeLookupBuffer implements Predicate<Recipe> {
+
+    private final List<ItemStack> items = new ObjectArrayList<>();
+    private final List<List<AbstractMapIngredient>> ingredients = new ObjectArrayList<>();
+    private final List<List<AbstractMapIngredient>> ingredientLists = new ObjectArrayList<>();
+
+    private final List<MapItemStackIngredient> itemIngredients = new ObjectArrayList<>();
+    private final List<MapItemStackNBTIngredient> itemNBTIngredients = new ObjectArrayList<>();
+    private final List<MapOreDictIngredient> oreDictIngredients = new ObjectArrayList<>();
+    private final List<MapOreDictNBTIngredient> oreDictNBTIngredients = new ObjectArrayList<>();
+    private final List<MapFluidIngredient> fluidIngredients = new ObjectArrayList<>();
+
+    private int itemIngredientIndex;
+    private int itemNBTIngredientIndex;
+    private int oreDictIngredientIndex;
+    private int oreDictNBTIngredientIndex;
+    private int fluidIngredientIndex;
+
+    private long voltage;
+    private boolean exactVoltage;
+    private List<ItemStack> inputs = Collections.emptyList();
+    private List<FluidStack> fluidInputs = Collections.emptyList();
+
+    private boolean inUse = false;
+
+    /**
+     * Claims the buffer for a lookup.
+     *
+     * @return false if the buffer is already in use further up the call stack
+     */
+    public boolean acquire() {
+        if (this.inUse) return false;
+        this.inUse = true;
+        return true;
+    }
+
+    /**
+     * Releases the buffer after a lookup, dropping all references to the looked up stacks.
+     */
+    public void release() {
+        for (int i = 0; i < itemIngredientIndex; i++) {
+            itemIngredients.get(i).reset(ItemStack.EMPTY, 0, null);
+        }
+        for (int i = 0; i < itemNBTIngredientIndex; i++) {
+            itemNBTIngredients.get(i).reset(ItemStack.EMPTY, 0, null);
+        }
+        for (int i = 0; i < oreDictNBTIngredientIndex; i++) {
+            oreDictNBTIngredients.get(i).reset(0, null);
+        }
+        this.itemIngredientIndex = 0;
+        this.itemNBTIngredientIndex = 0;
+        this.oreDictIngredientIndex = 0;
+        this.oreDictNBTIngredientIndex = 0;
+        this.fluidIngredientIndex = 0;
+
+        for (int i = 0; i < ingredients.size(); i++) {
+            ingredients.get(i).clear();
+        }
+        this.ingredients.clear();
+        this.items.clear();
+        this.inputs = Collections.emptyList();
+        this.fluidInputs = Collections.emptyList();
+        this.inUse = false;
+    }
+
+    /**
+     * @return the list used to collect the unique item inputs of the current lookup
+     */
+    @Nonnull
+    public List<ItemStack> getItems() {
+        return items;
+    }
+
+    /**
+     * @return the ingredients of the current lookup, in the form expected by the ingredient tree search
+     */
+    @Nonnull
+    public List<List<AbstractMapIngredient>> getIngredients() {
+        return ingredients;
+    }
+
+    /**
+     * Starts a new list of alternatives for a single input, appended to {@link #getIngredients()}.
+     *
+     * @return the empty list to fill
+     */
+    @Nonnull
+    public List<AbstractMapIngredient> nextIngredientList() {
+        List<AbstractMapIngredient> list;
+        int index = ingredients.size();
+        if (index == ingredientLists.size()) {
+            list = new ObjectArrayList<>(1);
+            ingredientLists.add(list);
+        } else {
+            list = ingredientLists.get(index);
+        }
+        ingredients.add(list);
+        return list;
+    }
+
+    @Nonnull
+    public AbstractMapIngredient itemIngredient(@Nonnull ItemStack stack, int meta, @Nullable NBTTagCompound tag) {
+        if (itemIngredientIndex == itemIngredients.size()) {
+            itemIngredients.add(new MapItemStackIngredient(stack, meta, tag));
+            return itemIngredients.get(itemIngredientIndex++);
+        }
+        MapItemStackIngredient ingredient = itemIngredients.get(itemIngredientIndex++);
+        ingredient.reset(stack, meta, tag);
+        return ingredient;
+    }
+
+    @Nonnull
+    public AbstractMapIngredient itemNBTIngredient(@Nonnull ItemStack stack, int meta, @Nullable NBTTagCompound tag) {
+        if (itemNBTIngredientIndex == itemNBTIngredients.size()) {
+            itemNBTIngredients.add(new MapItemStackNBTIngredient(stack, meta, tag));
+            return itemNBTIngredients.get(itemNBTIngredientIndex++);
+        }
+        MapItemStackNBTIngredient ingredient = itemNBTIngredients.get(itemNBTIngredientIndex++);
+        ingredient.reset(stack, meta, tag);
+        return ingredient;
+    }
+
+    @Nonnull
+    public AbstractMapIngredient oreDictIngredient(int ore) {
+        if (oreDictIngredientIndex == oreDictIngredients.size()) {
+            oreDictIngredients.add(new MapOreDictIngredient(ore));
+            return oreDictIngredients.get(oreDictIngredientIndex++);
+        }
+        MapOreDictIngredient ingredient = oreDictIngredients.get(oreDictIngredientIndex++);
+        ingredient.reset(ore);
+        return ingredient;
+    }
+
+    @Nonnull
+    public AbstractMapIngredient oreDictNBTIngredient(int ore, @Nullable NBTTagCompound tag) {
+        if (oreDictNBTIngredientIndex == oreDictNBTIngredients.size()) {
+            oreDictNBTIngredients.add(new MapOreDictNBTIngredient(ore, tag));
+            return oreDictNBTIngredients.get(oreDictNBTIngredientIndex++);
+        }
+        MapOreDictNBTIngredient ingredient = oreDictNBTIngredients.get(oreDictNBTIngredientIndex++);
+        ingredient.reset(ore, tag);
+        return ingredient;
+    }
+
+    @Nonnull
+    public AbstractMapIngredient fluidIngredient(@Nonnull FluidStack fluidStack) {
+        if (fluidIngredientIndex == fluidIngredients.size()) {
+            fluidIngredients.add(new MapFluidIngredient(fluidStack));
+            return fluidIngredients.get(fluidIngredientIndex++);
+        }
+        MapFluidIngredient ingredient = fluidIngredients.get(fluidIngredientIndex++);
+        ingredient.reset(fluidStack);
+        return ingredient;
+    }
+
+    /**
+     * Sets the requirements a found recipe is tested against by {@link #test(Recipe)}.
+     *
+     * @param voltage      Voltage of the Machine or Long.MAX_VALUE if it has no Voltage
+     * @param exactVoltage if the recipe must match the voltage exactly
+     * @param inputs       the Item Inputs
+     * @param fluidInputs  the Fluid Inputs
+     */
+    public void setRequirements(long voltage, boolean exactVoltage, @Nonnull List<ItemStack> inputs, @Nonnull List<FluidStack> fluidInputs) {
+        this.voltage = voltage;
+        this.exactVoltage = exactVoltage;
+        this.inputs = inputs;
+        this.fluidInputs = fluidInputs;
+    }
+
+    @Override
+    public boolean test(@Nonnull Recipe recipe) {
+        if (exactVoltage && recipe.getEUt() != voltage) {
+            // if exact voltage is required, the recipe is not considered valid
+            return false;
+        }
+        if (recipe.getEUt() > voltage) {
+            // there is not enough voltage to consider the recipe valid
+            return false;
+        }
+        return recipe.matches(false, inputs, fluidInputs);
+    }
+}
@@ -0,0 +1,137 @@
+package gregtech.api.recipes.map;
+
+import it.unimi.dsi.fastutil.longs.Long2LongLinkedOpenHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidStack;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * A bounded, least-recently-used cache of recipe lookups which did not find a recipe.
+ * <p>
+ * Lookups are identified by a pair of independent 64-bit fingerprints over the voltage and the non-empty
+ * item and fluid inputs, including their amounts. The first fingerprint is the key, the second is stored
+ * as the value and verified on a hit, so a false "no recipe" answer requires a 128-bit collision.
+ * <p>
+ * The cache must be cleared whenever the recipes of the owning map change.
+ */
+public class RecipeLookupMissCache {
+
+    private static final long PRIMARY_SEED = 0x9E3779B97F4A7C15L;
+    private static final long SECONDARY_SEED = 0xC2B2AE3D27D4EB4FL;
+
+    private final Long2LongLinkedOpenHashMap misses = new Long2LongLinkedOpenHashMap();
+
+    private long hits = 0;
+    private long lookups = 0;
+
+    /**
+     * @return the primary fingerprint of a lookup, used as the cache key
+     */
+    public static long fingerprint(long voltage, boolean exactVoltage, @Nonnull List<ItemStack> items, @Nonnull List<FluidStack> fluids) {
+        return hash(PRIMARY_SEED, voltage, exactVoltage, items, fluids);
+    }
+
+    /**
+     * @return the secondary fingerprint of a lookup, used to verify a cache hit. Never zero.
+     */
+    public static long verification(long voltage, boolean exactVoltage, @Nonnull List<ItemStack> items, @Nonnull List<FluidStack> fluids) {
+        return hash(SECONDARY_SEED, voltage, exactVoltage, items, fluids) | 1;
+    }
+
+    private static long hash(long seed, long voltage, boolean exactVoltage, @Nonnull List<ItemStack> items, @Nonnull List<FluidStack> fluids) {
+        long hash = mix(seed, voltage);
+        hash = mix(hash, exactVoltage ? 1 : 0);
+        for (ItemStack stack : items) {
+            if (stack.isEmpty()) continue;
+            hash = mix(hash, Item.getIdFromItem(stack.getItem()));
+            hash = mix(hash, stack.getMetadata());
+            hash = mix(hash, stack.getCount());
+            NBTTagCompound tag = stack.getTagCompound();
+            hash = mix(hash, tag == null ? 0 : tag.hashCode());
+        }
+        // separate items from fluids, so differently split inputs never produce the same sequence
+        hash = mix(hash, -1);
+        for (FluidStack stack : fluids) {
+            if (stack == null || stack.amount == 0) continue;
+            hash = mix(hash, stack.getFluid().getName().hashCode());
+            hash = mix(hash, stack.amount);
+            hash = mix(hash, stack.tag == null ? 0 : stack.tag.hashCode());
+        }
+        return hash;
+    }
+
+    /**
+     * Combines a value into a hash, using the finalizer of MurmurHash3 to spread the bits
+     */
+    private static long mix(long hash, long value) {
+        long h = (hash ^ value) * 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Checks if a lookup is known to not find a recipe, and refreshes its entry if so.
+     *
+     * @param key          the primary fingerprint of the lookup
+     * @param verification the secondary fingerprint of the lookup
+     * @return if the lookup is known to not find a recipe
+     */
+    public synchronized boolean isKnownMiss(long key, long verification) {
+        this.lookups++;
+        if (misses.isEmpty()) return false;
+        if (misses.getAndMoveToLast(key) == verification) {
+            this.hits++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Records a lookup which did not find a recipe, evicting the least recently used entry if full.
+     *
+     * @param key          the primary fingerprint of the lookup
+     * @param verification the secondary fingerprint of the lookup
+     * @param capacity     the maximum amount of entries to hold
+     */
+    public synchronized void addMiss(long key, long verification, int capacity) {
+        if (capacity <= 0) return;
+        while (misses.size() >= capacity && !misses.containsKey(key)) {
+            misses.removeFirstLong();
+        }
+        misses.putAndMoveToLast(key, verification);
+    }
+
+    /**
+     * Removes all entries. Must be called whenever the recipes this cache was built against change.
+     */
+    public synchronized void clear() {
+        misses.clear();
+    }
+
+    /**
+     * @return the amount of lookups answered by the cache
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the amount of lookups which had to search for a recipe
+     */
+    public synchronized long getMisses() {
+        return lookups - hits;
+    }
+
+    /**
+     * @return the amount of cached lookups
+     */
+    public synchronized int size() {
+        return misses.size();
+    }
+}
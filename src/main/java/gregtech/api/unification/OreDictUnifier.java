@@ -3,6 +3,7 @@ package gregtech.api.unification;
 import com.google.common.base.Joiner;
 import com.google.common.collect.Sets;
 import gregtech.api.GregTechAPI;
+import gregtech.api.capability.impl.miner.MinerLogic;
 import gregtech.api.unification.material.MarkerMaterial;
 import gregtech.api.unification.material.Material;
 import gregtech.api.unification.material.properties.PropertyKey;
@@ -14,8 +15,14 @@ import gregtech.api.unification.stack.UnificationEntry;
 import gregtech.api.util.CustomModPriorityComparator;
 import gregtech.api.util.GTUtility;
 import gregtech.common.ConfigHolder;
+import it.unimi.dsi.fastutil.ints.IntArraySet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.ints.IntSets;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.minecraft.block.Block;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.NonNullList;
 import net.minecraftforge.common.MinecraftForge;
@@ -44,6 +51,8 @@ public class OreDictUnifier {
     private static final Map<UnificationEntry, ArrayList<ItemAndMetadata>> stackUnificationItems = new Object2ObjectOpenHashMap<>();
     private static final Map<ItemAndMetadata, Set<String>> stackOreDictName = new Object2ObjectOpenHashMap<>();
     private static final Map<String, List<ItemStack>> oreDictNameStacks = new Object2ObjectOpenHashMap<>();
+    //ore dictionary ids of stacks, keyed by item id and damage like OreDictionary.getOreIDs, filled on first lookup
+    private static final Long2ObjectMap<IntSet> stackOreIds = new Long2ObjectOpenHashMap<>();
 
     @Nullable
     private static Comparator<ItemAndMetadata> stackComparator;
@@ -105,6 +114,8 @@ public class OreDictUnifier {
 
     @SubscribeEvent
     public static void onItemRegistration(OreRegisterEvent event) {
+        clearOreIdCache();
+        MinerLogic.clearOreStates();
         ItemAndMetadata key = new ItemAndMetadata(event.getOre());
         String oreName = event.getName();
         //cache this registration by name
@@ -165,6 +176,51 @@ public class OreDictUnifier {
         }
     }
 
+    /**
+     * Checks if an item stack is registered with an ore dictionary name, including wildcard registrations.
+     * Same as testing the stack against every entry of the ore dictionary name with {@link OreDictionary#itemMatches(ItemStack, ItemStack, boolean)}
+     *
+     * @param itemStack the stack to check
+     * @param oreId     the id of the ore dictionary name
+     * @return if the stack is registered with the ore dictionary name
+     */
+    public static boolean hasOreId(@Nonnull ItemStack itemStack, int oreId) {
+        return getOreIds(itemStack).contains(oreId);
+    }
+
+    /**
+     * Gets the ids of all ore dictionary names a stack is registered with, including wildcard registrations.
+     * Same names as {@link #getOreDictionaryNames(ItemStack)}, but cached and without creating a new set.
+     *
+     * @param itemStack the stack to check
+     * @return the ore dictionary ids of the stack. Must not be modified
+     */
+    @Nonnull
+    public static IntSet getOreIds(@Nonnull ItemStack itemStack) {
+        if (itemStack.isEmpty()) return IntSets.EMPTY_SET;
+        long key = ((long) Item.getIdFromItem(itemStack.getItem()) << 32) | (itemStack.getItemDamage() & 0xFFFFFFFFL);
+        synchronized (stackOreIds) {
+            IntSet oreIds = stackOreIds.get(key);
+            if (oreIds == null) {
+                oreIds = new IntArraySet(OreDictionary.getOreIDs(itemStack));
+                stackOreIds.put(key, oreIds);
+            }
+            return oreIds;
+        }
+    }
+
+    /**
+     * Clears the cached ore dictionary ids of stacks.
+     * Must be called when entries are removed from the ore dictionary, additions are handled automatically
+     */
+    public static void clearOreIdCache() {
+        synchronized (stackOreIds) {
+            if (!stackOreIds.isEmpty()) {
+                stackOreIds.clear();
+            }
+        }
+    }
+
     public static Set<String> getOreDictionaryNames(ItemStack itemStack) {
         if (itemStack.isEmpty()) return Collections.emptySet();
         ItemAndMetadata key = new ItemAndMetadata(itemStack);
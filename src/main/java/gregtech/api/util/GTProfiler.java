@@ -0,0 +1,154 @@
+package gregtech.api.util;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Aggregates server tick time, recipe searches, pipe net rebuilds and custom data writes
+ * per meta tile entity class, recipe map, pipe net class and dimension.
+ * <p>
+ * Callers check {@link #isRunning()} first, so the profiler costs a single field read while it is stopped.
+ */
+public class GTProfiler {
+
+    private static boolean running = false;
+    private static long startTime;
+    private static long duration;
+
+    private static final Map<Class<?>, Entry> metaTileEntities = new HashMap<>();
+    private static final Map<String, Entry> recipeMaps = new HashMap<>();
+    private static final Map<Class<?>, Entry> pipeNets = new HashMap<>();
+    private static final Int2ObjectMap<Entry> dimensions = new Int2ObjectOpenHashMap<>();
+
+    public static boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts profiling, discarding all previously collected data
+     */
+    public static synchronized void start() {
+        metaTileEntities.clear();
+        recipeMaps.clear();
+        pipeNets.clear();
+        dimensions.clear();
+        startTime = System.nanoTime();
+        duration = 0;
+        running = true;
+    }
+
+    public static synchronized void stop() {
+        duration = getDuration();
+        running = false;
+    }
+
+    /**
+     * @return the time profiled in nanoseconds
+     */
+    public static synchronized long getDuration() {
+        return running ? System.nanoTime() - startTime : duration;
+    }
+
+    public static synchronized void recordTick(Class<?> metaTileEntityClass, int dimension, long nanos) {
+        if (!running) return;
+        metaTileEntities.computeIfAbsent(metaTileEntityClass, k -> new Entry()).addTick(nanos);
+        getDimension(dimension).addTick(nanos);
+    }
+
+    public static synchronized void recordRecipeSearch(Class<?> metaTileEntityClass, int dimension, String recipeMap, boolean found) {
+        if (!running) return;
+        metaTileEntities.computeIfAbsent(metaTileEntityClass, k -> new Entry()).addRecipeSearch(found);
+        recipeMaps.computeIfAbsent(recipeMap, k -> new Entry()).addRecipeSearch(found);
+        getDimension(dimension).addRecipeSearch(found);
+    }
+
+    public static synchronized void recordPipeNetRebuild(Class<?> pipeNetClass, int dimension) {
+        if (!running) return;
+        pipeNets.computeIfAbsent(pipeNetClass, k -> new Entry()).pipeNetRebuilds++;
+        getDimension(dimension).pipeNetRebuilds++;
+    }
+
+    public static synchronized void recordCustomDataWrite(Class<?> metaTileEntityClass, int dimension) {
+        if (!running) return;
+        metaTileEntities.computeIfAbsent(metaTileEntityClass, k -> new Entry()).customDataWrites++;
+        getDimension(dimension).customDataWrites++;
+    }
+
+    private static Entry getDimension(int dimension) {
+        Entry entry = dimensions.get(dimension);
+        if (entry == null) {
+            entry = new Entry();
+            dimensions.put(dimension, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Writes the collected data as CSV, one row per meta tile entity class, recipe map, pipe net class and dimension.
+     * Rows are grouped by category and sorted by tick time, then by recipe searches.
+     */
+    public static synchronized void writeReport(@Nonnull File file) throws IOException {
+        File directory = file.getParentFile();
+        if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Failed to create directory " + directory);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("category,name,ticks,tick_time_ms,average_tick_us,max_tick_us,recipe_searches,recipe_misses,pipe_net_rebuilds,custom_data_writes");
+            writer.newLine();
+            writeEntries(writer, "metatileentity", metaTileEntities, Class::getName);
+            writeEntries(writer, "recipemap", recipeMaps, name -> name);
+            writeEntries(writer, "pipenet", pipeNets, Class::getName);
+            writeEntries(writer, "dimension", dimensions, String::valueOf);
+        }
+    }
+
+    private static <K> void writeEntries(BufferedWriter writer, String category, Map<K, Entry> entries,
+                                         Function<K, String> nameGetter) throws IOException {
+        List<Map.Entry<K, Entry>> sorted = new ArrayList<>(entries.entrySet());
+        sorted.sort(Comparator.comparingLong((Map.Entry<K, Entry> e) -> e.getValue().tickNanos)
+                .thenComparingLong(e -> e.getValue().recipeSearches).reversed());
+        for (Map.Entry<K, Entry> e : sorted) {
+            Entry entry = e.getValue();
+            writer.write(String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.3f,%.3f,%d,%d,%d,%d",
+                    category, nameGetter.apply(e.getKey()), entry.ticks,
+                    entry.tickNanos / 1_000_000.0,
+                    entry.ticks == 0 ? 0.0 : entry.tickNanos / 1_000.0 / entry.ticks,
+                    entry.maxTickNanos / 1_000.0,
+                    entry.recipeSearches, entry.recipeMisses, entry.pipeNetRebuilds, entry.customDataWrites));
+            writer.newLine();
+        }
+    }
+
+    private static class Entry {
+
+        private long ticks;
+        private long tickNanos;
+        private long maxTickNanos;
+        private long recipeSearches;
+        private long recipeMisses;
+        private long pipeNetRebuilds;
+        private long customDataWrites;
+
+        private void addTick(long nanos) {
+            this.ticks++;
+            this.tickNanos += nanos;
+            this.maxTickNanos = Math.max(maxTickNanos, nanos);
+        }
+
+        private void addRecipeSearch(boolean found) {
+            this.recipeSearches++;
+            if (!found) {
+                this.recipeMisses++;
+            }
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package gregtech.api.util.oreglob;
 
 import gregtech.api.unification.OreDictUnifier;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -14,13 +18,28 @@ import java.util.function.Function;
  * and the ability to translate expression structure into user-friendly text
  * explanations. The text can be either a plaintext, or a text formatted by standard
  * Minecraft text format.
+ * <p>
+ * Item matching is done against ore dictionary ids. Each instance evaluates every registered
+ * ore dictionary name once, and remembers the result per id; names registered later are evaluated
+ * on the first match after their registration. Compilation results are shared between all users
+ * of the same expression, so the evaluation is done once per expression.
  */
 public abstract class OreGlob {
 
+    private static final int COMPILE_CACHE_SIZE = 256;
+
     private static Function<String, OreGlobCompileResult> compiler;
+    private static final Object2ObjectLinkedOpenHashMap<String, OreGlobCompileResult> compileCache = new Object2ObjectLinkedOpenHashMap<>();
+
+    // ore dictionary ids below evaluatedOreIds matching this instance
+    private final BitSet matchingOreIds = new BitSet();
+    private int evaluatedOreIds = 0;
+    // 0 if not evaluated yet, 1 if matching empty string, -1 otherwise
+    private byte emptyMatch = 0;
 
     /**
      * Tries to compile the string expression into OreGlob instance.
+     * Recently compiled expressions return the same result, including the same instance.
      *
      * @param expression OreGlob expression
      * @return Compilation result
@@ -28,11 +47,25 @@ public abstract class OreGlob {
      */
     public static OreGlobCompileResult compile(String expression) {
         if (compiler == null) throw new IllegalStateException("Compiler unavailable");
-        return compiler.apply(expression);
+        synchronized (compileCache) {
+            OreGlobCompileResult result = compileCache.getAndMoveToLast(expression);
+            if (result != null) return result;
+        }
+        OreGlobCompileResult result = compiler.apply(expression);
+        synchronized (compileCache) {
+            while (compileCache.size() >= COMPILE_CACHE_SIZE) {
+                compileCache.removeFirst();
+            }
+            compileCache.putAndMoveToLast(expression, result);
+        }
+        return result;
     }
 
     public static void setCompiler(Function<String, OreGlobCompileResult> compiler) {
         OreGlob.compiler = compiler;
+        synchronized (compileCache) {
+            compileCache.clear();
+        }
     }
 
     /**
@@ -63,17 +96,39 @@ public abstract class OreGlob {
      * @return Whether this instance matches the input
      */
     public final boolean matches(ItemStack stack) {
-        Set<String> oreDicts = OreDictUnifier.getOreDictionaryNames(stack);
-        if (oreDicts.isEmpty()) {
-            return matches("");
-        } else {
-            for (String oreDict : oreDicts) {
-                if (matches(oreDict)) return true;
+        IntSet oreIds = OreDictUnifier.getOreIds(stack);
+        synchronized (this) {
+            if (oreIds.isEmpty()) {
+                if (this.emptyMatch == 0) {
+                    this.emptyMatch = (byte) (matches("") ? 1 : -1);
+                }
+                return this.emptyMatch > 0;
+            }
+            for (IntIterator it = oreIds.iterator(); it.hasNext(); ) {
+                int oreId = it.nextInt();
+                if (oreId >= this.evaluatedOreIds) {
+                    evaluateOreIds();
+                }
+                if (this.matchingOreIds.get(oreId)) return true;
             }
             return false;
         }
     }
 
+    /**
+     * Evaluates all ore dictionary names registered since the last evaluation.
+     * Ids are never removed or reassigned, so previous results stay valid.
+     */
+    private void evaluateOreIds() {
+        String[] oreNames = OreDictionary.getOreNames();
+        for (int oreId = this.evaluatedOreIds; oreId < oreNames.length; oreId++) {
+            if (matches(oreNames[oreId])) {
+                this.matchingOreIds.set(oreId);
+            }
+        }
+        this.evaluatedOreIds = oreNames.length;
+    }
+
     /**
      * Visualize this instance with standard Minecraft text formatting. Two spaces ('  ') will
      * be used as indentation.
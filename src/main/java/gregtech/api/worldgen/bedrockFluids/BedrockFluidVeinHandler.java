@@ -6,30 +6,52 @@ import gregtech.core.network.packets.PacketFluidVeinList;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.XSTR;
 import gregtech.api.worldgen.config.BedrockFluidDepositDefinition;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldProvider;
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.storage.MapStorage;
+import net.minecraftforge.common.DimensionManager;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.relauncher.Side;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.Random;
+import java.util.*;
 
+@EventBusSubscriber(modid = GTValues.MODID)
 public class BedrockFluidVeinHandler {
 
     public final static LinkedHashMap<BedrockFluidDepositDefinition, Integer> veinList = new LinkedHashMap<>();
-    private final static Map<Integer, HashMap<Integer, Integer>> totalWeightMap = new HashMap<>();
-    public static HashMap<ChunkPosDimension, FluidVeinWorldEntry> veinCache = new HashMap<>();
+    // per dimension and biome id: the total weight, followed by the weight of every vein in veinList
+    private final static Int2ObjectMap<Int2ObjectMap<int[]>> biomeWeightMap = new Int2ObjectOpenHashMap<>();
+    private static BedrockFluidDepositDefinition[] weightedVeins;
+    // per dimension: the loaded regions, keyed by packed region coordinates
+    private final static Int2ObjectMap<Long2ObjectMap<BedrockFluidVeinRegionSaveData>> veinRegions = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * @deprecated veins are stored in regions, use {@link #getFluidVeinWorldEntry(World, int, int)} instead.
+     * This view only contains the veins of currently loaded regions, keyed by vein coordinates.
+     */
+    @Deprecated
+    public static final Map<ChunkPosDimension, FluidVeinWorldEntry> veinCache = new LoadedVeinsView();
 
     public static final int VEIN_CHUNK_SIZE = 8; // veins are 8x8 chunk squares
 
+    // regions which were saved and not accessed for this long are unloaded on the next world save
+    private static final long REGION_IDLE_TICKS = 6000;
+
     public static final int MAXIMUM_VEIN_OPERATIONS = 100_000;
 
     /**
@@ -45,24 +67,28 @@ public class BedrockFluidVeinHandler {
         if (world.isRemote)
             return null;
 
-        ChunkPosDimension coords = new ChunkPosDimension(world.provider.getDimension(), chunkX / VEIN_CHUNK_SIZE, chunkZ / VEIN_CHUNK_SIZE);
+        int veinX = chunkX / VEIN_CHUNK_SIZE;
+        int veinZ = chunkZ / VEIN_CHUNK_SIZE;
+        BedrockFluidVeinRegionSaveData region = getRegion(world, world.provider.getDimension(), veinX, veinZ);
+        long veinKey = getVeinKey(veinX, veinZ);
 
-        FluidVeinWorldEntry worldEntry = veinCache.get(coords);
+        FluidVeinWorldEntry worldEntry = region.getVeins().get(veinKey);
         if (worldEntry == null) {
             BedrockFluidDepositDefinition definition = null;
 
-            int query = world.getChunk(chunkX / VEIN_CHUNK_SIZE, chunkZ / VEIN_CHUNK_SIZE).getRandomWithSeed(90210).nextInt();
+            int query = world.getChunk(veinX, veinZ).getRandomWithSeed(90210).nextInt();
 
             Biome biome = world.getBiomeForCoordsBody(new BlockPos(chunkX << 4, 64, chunkZ << 4));
-            int totalWeight = getTotalWeight(world.provider, biome);
+            int[] weights = getBiomeWeights(world.provider, biome);
+            int totalWeight = weights[0];
             if (totalWeight > 0) {
                 int weight = Math.abs(query % totalWeight);
-                for (Map.Entry<BedrockFluidDepositDefinition, Integer> entry : veinList.entrySet()) {
-                    int veinWeight = entry.getValue() + entry.getKey().getBiomeWeightModifier().apply(biome);
-                    if (veinWeight > 0 && entry.getKey().getDimensionFilter().test(world.provider)) {
+                for (int i = 0; i < weightedVeins.length; i++) {
+                    int veinWeight = weights[i + 1];
+                    if (veinWeight > 0) {
                         weight -= veinWeight;
                         if (weight < 0) {
-                            definition = entry.getKey();
+                            definition = weightedVeins[i];
                             break;
                         }
                     }
@@ -82,11 +108,120 @@ public class BedrockFluidVeinHandler {
             }
 
             worldEntry = new FluidVeinWorldEntry(definition, maximumYield, MAXIMUM_VEIN_OPERATIONS);
-            veinCache.put(coords, worldEntry);
+            region.getVeins().put(veinKey, worldEntry);
+            region.markDirty();
         }
         return worldEntry;
     }
 
+    /**
+     * @return the vein coordinates packed into a single key
+     */
+    public static long getVeinKey(int veinX, int veinZ) {
+        return (long) veinX << 32 | veinZ & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Gets the region containing a vein, loading it from the world save if needed
+     */
+    @Nonnull
+    private static BedrockFluidVeinRegionSaveData getRegion(@Nonnull World world, int dimension, int veinX, int veinZ) {
+        Long2ObjectMap<BedrockFluidVeinRegionSaveData> regions = veinRegions.get(dimension);
+        if (regions == null) {
+            regions = new Long2ObjectOpenHashMap<>();
+            veinRegions.put(dimension, regions);
+        }
+        int regionX = veinX >> BedrockFluidVeinRegionSaveData.REGION_SHIFT;
+        int regionZ = veinZ >> BedrockFluidVeinRegionSaveData.REGION_SHIFT;
+        long regionKey = getVeinKey(regionX, regionZ);
+        BedrockFluidVeinRegionSaveData region = regions.get(regionKey);
+        if (region == null) {
+            String dataName = BedrockFluidVeinRegionSaveData.getDataName(dimension, regionX, regionZ);
+            region = (BedrockFluidVeinRegionSaveData) world.loadData(BedrockFluidVeinRegionSaveData.class, dataName);
+            if (region == null) {
+                region = new BedrockFluidVeinRegionSaveData(dataName);
+                world.setData(dataName, region);
+            }
+            regions.put(regionKey, region);
+        }
+        region.setLastAccessTime(world.getTotalWorldTime());
+        return region;
+    }
+
+    @Nullable
+    private static BedrockFluidVeinRegionSaveData getLoadedRegion(int dimension, int veinX, int veinZ) {
+        Long2ObjectMap<BedrockFluidVeinRegionSaveData> regions = veinRegions.get(dimension);
+        if (regions == null) return null;
+        return regions.get(getVeinKey(veinX >> BedrockFluidVeinRegionSaveData.REGION_SHIFT, veinZ >> BedrockFluidVeinRegionSaveData.REGION_SHIFT));
+    }
+
+    /**
+     * Adds a vein loaded from the single file used by older versions
+     *
+     * @param world     any world of the server, vein data is shared by all dimensions
+     * @param dimension the dimension of the vein
+     * @param veinX     X coordinate of the vein
+     * @param veinZ     Z coordinate of the vein
+     * @param entry     the vein
+     */
+    @Nullable
+    static FluidVeinWorldEntry addLegacyFluidVeinWorldEntry(@Nonnull World world, int dimension, int veinX, int veinZ, @Nonnull FluidVeinWorldEntry entry) {
+        BedrockFluidVeinRegionSaveData region = getRegion(world, dimension, veinX, veinZ);
+        region.markDirty();
+        return region.getVeins().put(getVeinKey(veinX, veinZ), entry);
+    }
+
+    /**
+     * Marks all loaded vein regions to be saved
+     */
+    static void markLoadedRegionsDirty() {
+        for (Long2ObjectMap<BedrockFluidVeinRegionSaveData> regions : veinRegions.values()) {
+            for (BedrockFluidVeinRegionSaveData region : regions.values()) {
+                region.markDirty();
+            }
+        }
+    }
+
+    /**
+     * Drops all loaded vein regions. Must be called when the server stops.
+     */
+    public static void clearVeinRegions() {
+        veinRegions.clear();
+    }
+
+    @SubscribeEvent
+    public static void onWorldSave(WorldEvent.Save event) {
+        World world = event.getWorld();
+        if (!world.isRemote) {
+            unloadIdleRegions(world);
+        }
+    }
+
+    /**
+     * Unloads the regions of a world which are saved and were not accessed for {@link #REGION_IDLE_TICKS}.
+     * Regions are also removed from the world's data storage, which would otherwise keep them until the server stops.
+     */
+    private static void unloadIdleRegions(@Nonnull World world) {
+        Long2ObjectMap<BedrockFluidVeinRegionSaveData> regions = veinRegions.get(world.provider.getDimension());
+        if (regions == null || regions.isEmpty()) return;
+
+        long idleSince = world.getTotalWorldTime() - REGION_IDLE_TICKS;
+        MapStorage storage = world.getMapStorage();
+        Set<BedrockFluidVeinRegionSaveData> unloaded = new ReferenceOpenHashSet<>();
+        ObjectIterator<BedrockFluidVeinRegionSaveData> iterator = regions.values().iterator();
+        while (iterator.hasNext()) {
+            BedrockFluidVeinRegionSaveData region = iterator.next();
+            if (!region.isDirty() && region.getLastAccessTime() < idleSince) {
+                iterator.remove();
+                if (storage != null) storage.loadedDataMap.remove(region.mapName);
+                unloaded.add(region);
+            }
+        }
+        if (storage != null && !unloaded.isEmpty()) {
+            storage.loadedDataList.removeAll(unloaded);
+        }
+    }
+
     /**
      * Gets the total weight of all veins for the given dimension ID and biome type
      *
@@ -95,32 +230,53 @@ public class BedrockFluidVeinHandler {
      * @return The total weight associated with the dimension/biome pair
      */
     public static int getTotalWeight(@Nonnull WorldProvider provider, Biome biome) {
+        return getBiomeWeights(provider, biome)[0];
+    }
+
+    /**
+     * Gets the weights of all veins for the given dimension ID and biome type, computed on first access
+     *
+     * @return the total weight, followed by the weight of every vein in {@link #veinList}.
+     * Veins which can not generate have a weight of zero or less.
+     */
+    @Nonnull
+    private static int[] getBiomeWeights(@Nonnull WorldProvider provider, Biome biome) {
         int dim = provider.getDimension();
-        if (!totalWeightMap.containsKey(dim)) {
-            totalWeightMap.put(dim, new HashMap<>());
+        Int2ObjectMap<int[]> dimMap = biomeWeightMap.get(dim);
+        if (dimMap == null) {
+            dimMap = new Int2ObjectOpenHashMap<>();
+            biomeWeightMap.put(dim, dimMap);
         }
 
-        Map<Integer, Integer> dimMap = totalWeightMap.get(dim);
         int biomeID = Biome.getIdForBiome(biome);
-
-        if (dimMap.containsKey(biomeID)) {
-            return dimMap.get(biomeID);
+        int[] weights = dimMap.get(biomeID);
+        if (weights != null) {
+            return weights;
         }
 
+        if (weightedVeins == null) {
+            weightedVeins = veinList.keySet().toArray(new BedrockFluidDepositDefinition[0]);
+        }
+        weights = new int[weightedVeins.length + 1];
         int totalWeight = 0;
+        int i = 1;
         for (Map.Entry<BedrockFluidDepositDefinition, Integer> entry : veinList.entrySet()) {
             if (entry.getKey().getDimensionFilter().test(provider)) {
-                totalWeight += entry.getKey().getBiomeWeightModifier().apply(biome);
+                int biomeWeightModifier = entry.getKey().getBiomeWeightModifier().apply(biome);
+                totalWeight += biomeWeightModifier;
                 totalWeight += entry.getKey().getWeight();
+                weights[i] = entry.getValue() + biomeWeightModifier;
             }
+            i++;
         }
+        weights[0] = totalWeight;
 
         // make sure the vein can generate if no biome weighting is added
         if (totalWeight == 0 && !veinList.isEmpty())
             GTLog.logger.error("Bedrock Fluid Vein weight was 0 in biome {}", biome.biomeName);
 
-        dimMap.put(biomeID, totalWeight);
-        return totalWeight;
+        dimMap.put(biomeID, weights);
+        return weights;
     }
 
     /**
@@ -130,15 +286,22 @@ public class BedrockFluidVeinHandler {
      */
     public static void addFluidDeposit(BedrockFluidDepositDefinition definition) {
         veinList.put(definition, definition.getWeight());
+        biomeWeightMap.clear();
+        weightedVeins = null;
     }
 
     public static void recalculateChances(boolean mutePackets) {
-        totalWeightMap.clear();
+        biomeWeightMap.clear();
+        weightedVeins = null;
         if (FMLCommonHandler.instance().getEffectiveSide() == Side.SERVER && !mutePackets) {
             HashMap<FluidVeinWorldEntry, Integer> packetMap = new HashMap<>();
-            for (Map.Entry<ChunkPosDimension, FluidVeinWorldEntry> entry : BedrockFluidVeinHandler.veinCache.entrySet()) {
-                if (entry.getKey() != null && entry.getValue() != null)
-                    packetMap.put(entry.getValue(), entry.getValue().getDefinition().getWeight());
+            for (Long2ObjectMap<BedrockFluidVeinRegionSaveData> regions : veinRegions.values()) {
+                for (BedrockFluidVeinRegionSaveData region : regions.values()) {
+                    for (FluidVeinWorldEntry entry : region.getVeins().values()) {
+                        if (entry != null)
+                            packetMap.put(entry, entry.getDefinition().getWeight());
+                    }
+                }
             }
             GregTechAPI.networkHandler.sendToAll(new PacketFluidVeinList(packetMap));
         }
@@ -216,6 +379,7 @@ public class BedrockFluidVeinHandler {
 
         if (ignoreVeinStats) {
             info.decreaseOperations(amount);
+            markVeinDirty(world, chunkX, chunkZ);
             return;
         }
 
@@ -227,7 +391,66 @@ public class BedrockFluidVeinHandler {
 
         if (definition.getDepletionChance() == 100 || GTValues.RNG.nextInt(100) <= definition.getDepletionChance()) {
             info.decreaseOperations(definition.getDepletionAmount());
-            BedrockFluidVeinSaveData.setDirty();
+            markVeinDirty(world, chunkX, chunkZ);
+        }
+    }
+
+    private static void markVeinDirty(World world, int chunkX, int chunkZ) {
+        getRegion(world, world.provider.getDimension(), chunkX / VEIN_CHUNK_SIZE, chunkZ / VEIN_CHUNK_SIZE).markDirty();
+    }
+
+    /**
+     * The veins of all loaded regions, as a map keyed by dimension and vein coordinates
+     */
+    private static class LoadedVeinsView extends AbstractMap<ChunkPosDimension, FluidVeinWorldEntry> {
+
+        @Override
+        public FluidVeinWorldEntry get(Object key) {
+            if (!(key instanceof ChunkPosDimension)) return null;
+            ChunkPosDimension coords = (ChunkPosDimension) key;
+            BedrockFluidVeinRegionSaveData region = getLoadedRegion(coords.dimension, coords.x, coords.z);
+            return region == null ? null : region.getVeins().get(getVeinKey(coords.x, coords.z));
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public FluidVeinWorldEntry put(ChunkPosDimension key, FluidVeinWorldEntry value) {
+            // vein data of all dimensions is saved through the overworld
+            World world = DimensionManager.getWorld(0);
+            if (world == null) {
+                throw new IllegalStateException("Can not add bedrock fluid veins while no world is loaded");
+            }
+            return addLegacyFluidVeinWorldEntry(world, key.dimension, key.x, key.z, value);
+        }
+
+        @Override
+        public FluidVeinWorldEntry remove(Object key) {
+            if (!(key instanceof ChunkPosDimension)) return null;
+            ChunkPosDimension coords = (ChunkPosDimension) key;
+            BedrockFluidVeinRegionSaveData region = getLoadedRegion(coords.dimension, coords.x, coords.z);
+            if (region == null) return null;
+            FluidVeinWorldEntry entry = region.getVeins().remove(getVeinKey(coords.x, coords.z));
+            if (entry != null) region.markDirty();
+            return entry;
+        }
+
+        @Nonnull
+        @Override
+        public Set<Entry<ChunkPosDimension, FluidVeinWorldEntry>> entrySet() {
+            Map<ChunkPosDimension, FluidVeinWorldEntry> veins = new HashMap<>();
+            for (Int2ObjectMap.Entry<Long2ObjectMap<BedrockFluidVeinRegionSaveData>> regions : veinRegions.int2ObjectEntrySet()) {
+                for (BedrockFluidVeinRegionSaveData region : regions.getValue().values()) {
+                    for (Long2ObjectMap.Entry<FluidVeinWorldEntry> vein : region.getVeins().long2ObjectEntrySet()) {
+                        long veinKey = vein.getLongKey();
+                        veins.put(new ChunkPosDimension(regions.getIntKey(), (int) (veinKey >> 32), (int) veinKey), vein.getValue());
+                    }
+                }
+            }
+            return Collections.unmodifiableSet(veins.entrySet());
         }
     }
 
@@ -0,0 +1,80 @@
+package gregtech.api.worldgen.bedrockFluids;
+
+import gregtech.api.GTValues;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.world.storage.WorldSavedData;
+import net.minecraftforge.common.util.Constants.NBT;
+
+import javax.annotation.Nonnull;
+
+/**
+ * The bedrock fluid veins of a square region of {@link #REGION_SIZE} by {@link #REGION_SIZE} veins in a single dimension.
+ * <p>
+ * Regions are loaded on first access and only saved when one of their veins was created or depleted.
+ */
+public class BedrockFluidVeinRegionSaveData extends WorldSavedData {
+
+    public static final int REGION_SHIFT = 5;
+    public static final int REGION_SIZE = 1 << REGION_SHIFT;
+
+    private static final String DATA_NAME_PREFIX = GTValues.MODID + ".bedrockFluidVeins.";
+
+    // keyed by packed vein coordinates
+    private final Long2ObjectMap<BedrockFluidVeinHandler.FluidVeinWorldEntry> veins = new Long2ObjectOpenHashMap<>();
+    // total world time of the last access, idle regions are unloaded once saved
+    private long lastAccessTime;
+
+    public BedrockFluidVeinRegionSaveData(String name) {
+        super(name);
+    }
+
+    @Nonnull
+    public static String getDataName(int dimension, int regionX, int regionZ) {
+        return DATA_NAME_PREFIX + dimension + "." + regionX + "." + regionZ;
+    }
+
+    /**
+     * @return the veins of this region, keyed by packed vein coordinates
+     */
+    @Nonnull
+    public Long2ObjectMap<BedrockFluidVeinHandler.FluidVeinWorldEntry> getVeins() {
+        return veins;
+    }
+
+    long getLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    void setLastAccessTime(long lastAccessTime) {
+        this.lastAccessTime = lastAccessTime;
+    }
+
+    @Override
+    public void readFromNBT(@Nonnull NBTTagCompound nbt) {
+        NBTTagList veinList = nbt.getTagList("veinInfo", NBT.TAG_COMPOUND);
+        this.veins.clear();
+        for (int i = 0; i < veinList.tagCount(); i++) {
+            NBTTagCompound tag = veinList.getCompoundTagAt(i);
+            long veinKey = BedrockFluidVeinHandler.getVeinKey(tag.getInteger("x"), tag.getInteger("z"));
+            this.veins.put(veinKey, BedrockFluidVeinHandler.FluidVeinWorldEntry.readFromNBT(tag.getCompoundTag("info")));
+        }
+    }
+
+    @Nonnull
+    @Override
+    public NBTTagCompound writeToNBT(@Nonnull NBTTagCompound nbt) {
+        NBTTagList veinList = new NBTTagList();
+        for (Long2ObjectMap.Entry<BedrockFluidVeinHandler.FluidVeinWorldEntry> entry : this.veins.long2ObjectEntrySet()) {
+            NBTTagCompound tag = new NBTTagCompound();
+            tag.setInteger("x", (int) (entry.getLongKey() >> 32));
+            tag.setInteger("z", (int) entry.getLongKey());
+            tag.setTag("info", entry.getValue().writeToNBT());
+            veinList.appendTag(tag);
+        }
+        nbt.setTag("veinInfo", veinList);
+        return nbt;
+    }
+}
@@ -1,20 +1,30 @@
 package gregtech.api.worldgen.bedrockFluids;
 
 import gregtech.api.GTValues;
+import gregtech.api.util.GTLog;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.world.World;
 import net.minecraft.world.storage.WorldSavedData;
+import net.minecraftforge.common.DimensionManager;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.relauncher.Side;
 
 import javax.annotation.Nonnull;
+import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * The bedrock fluid veins of all dimensions, as saved in a single file by older versions.
+ * <p>
+ * Veins are now saved in {@link BedrockFluidVeinRegionSaveData}, this is only read to move existing veins there.
+ */
 public class BedrockFluidVeinSaveData extends WorldSavedData {
 
-    private static BedrockFluidVeinSaveData INSTANCE;
     public static final String dataName = GTValues.MODID + ".bedrockFluidVeinData";
 
+    private final Map<ChunkPosDimension, BedrockFluidVeinHandler.FluidVeinWorldEntry> legacyVeins = new HashMap<>();
+
     public BedrockFluidVeinSaveData(String s) {
         super(s);
     }
@@ -22,13 +32,13 @@ public class BedrockFluidVeinSaveData extends WorldSavedData {
     @Override
     public void readFromNBT(NBTTagCompound nbt) {
         NBTTagList veinList = nbt.getTagList("veinInfo", 10);
-        BedrockFluidVeinHandler.veinCache.clear();
+        this.legacyVeins.clear();
         for (int i = 0; i < veinList.tagCount(); i++) {
             NBTTagCompound tag = veinList.getCompoundTagAt(i);
             ChunkPosDimension coords = ChunkPosDimension.readFromNBT(tag);
             if (coords != null) {
                 BedrockFluidVeinHandler.FluidVeinWorldEntry info = BedrockFluidVeinHandler.FluidVeinWorldEntry.readFromNBT(tag.getCompoundTag("info"));
-                BedrockFluidVeinHandler.veinCache.put(coords, info);
+                this.legacyVeins.put(coords, info);
             }
         }
     }
@@ -37,26 +47,49 @@ public class BedrockFluidVeinSaveData extends WorldSavedData {
     public @Nonnull
     NBTTagCompound writeToNBT(@Nonnull NBTTagCompound nbt) {
         NBTTagList oilList = new NBTTagList();
-        for (Map.Entry<ChunkPosDimension, BedrockFluidVeinHandler.FluidVeinWorldEntry> e : BedrockFluidVeinHandler.veinCache.entrySet()) {
-            if (e.getKey() != null && e.getValue() != null) {
-                NBTTagCompound tag = e.getKey().writeToNBT();
-                tag.setTag("info", e.getValue().writeToNBT());
-                oilList.appendTag(tag);
-            }
+        for (Map.Entry<ChunkPosDimension, BedrockFluidVeinHandler.FluidVeinWorldEntry> e : this.legacyVeins.entrySet()) {
+            NBTTagCompound tag = e.getKey().writeToNBT();
+            tag.setTag("info", e.getValue().writeToNBT());
+            oilList.appendTag(tag);
         }
         nbt.setTag("veinInfo", oilList);
 
         return nbt;
     }
 
+    /**
+     * Moves all veins of this file into their regions, leaving this file empty
+     *
+     * @param world any world of the server
+     */
+    public void migrateVeins(@Nonnull World world) {
+        if (this.legacyVeins.isEmpty()) return;
+        GTLog.logger.info("Moving {} bedrock fluid veins into region files", this.legacyVeins.size());
+        for (Map.Entry<ChunkPosDimension, BedrockFluidVeinHandler.FluidVeinWorldEntry> e : this.legacyVeins.entrySet()) {
+            ChunkPosDimension coords = e.getKey();
+            BedrockFluidVeinHandler.addLegacyFluidVeinWorldEntry(world, coords.dimension, coords.x, coords.z, e.getValue());
+        }
+        this.legacyVeins.clear();
+        markDirty();
+    }
 
+    /**
+     * @deprecated veins are saved with their regions when created or depleted, this marks all loaded regions to be saved
+     */
+    @Deprecated
     public static void setDirty() {
-        if (FMLCommonHandler.instance().getEffectiveSide() == Side.SERVER && INSTANCE != null)
-            INSTANCE.markDirty();
+        if (FMLCommonHandler.instance().getEffectiveSide() == Side.SERVER)
+            BedrockFluidVeinHandler.markLoadedRegionsDirty();
     }
 
+    /**
+     * @deprecated the single file is only read to move its veins into regions, this moves the veins of the given data
+     */
+    @Deprecated
     public static void setInstance(BedrockFluidVeinSaveData in) {
-        if (FMLCommonHandler.instance().getEffectiveSide() == Side.SERVER)
-            INSTANCE = in;
+        if (FMLCommonHandler.instance().getEffectiveSide() == Side.SERVER) {
+            World world = DimensionManager.getWorld(0);
+            if (world != null) in.migrateVeins(world);
+        }
     }
 }
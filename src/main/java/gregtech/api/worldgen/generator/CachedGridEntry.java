@@ -2,6 +2,7 @@ package gregtech.api.worldgen.generator;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import gnu.trove.iterator.TLongIterator;
 import gnu.trove.list.TLongList;
 import gnu.trove.list.array.TLongArrayList;
@@ -9,6 +10,7 @@ import gnu.trove.map.TLongObjectMap;
 import gnu.trove.map.hash.TLongObjectHashMap;
 import gnu.trove.set.TLongSet;
 import gnu.trove.set.hash.TLongHashSet;
+import gregtech.api.util.GTLog;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.XSTR;
 import gregtech.api.worldgen.config.OreDepositDefinition;
@@ -28,13 +30,21 @@ import net.minecraft.world.biome.Biome;
 import net.minecraft.world.chunk.Chunk;
 import org.apache.commons.lang3.tuple.MutablePair;
 
+import javax.annotation.Nullable;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IBlockModifierAccess {
 
     private static final Map<World, Cache<Long, CachedGridEntry>> gridEntryCache = new WeakHashMap<>();
+    // entries generated ahead of time by worker threads, waiting to be taken into the grid entry cache
+    private static final Map<World, Cache<Long, Future<CachedGridEntry>>> pregeneratedEntries = new WeakHashMap<>();
+    private static ExecutorService pregenerationExecutor;
 
     public static CachedGridEntry getOrCreateEntry(World world, int gridX, int gridZ, int primerChunkX, int primerChunkZ) {
         Cache<Long, CachedGridEntry> currentValue = gridEntryCache.get(world);
@@ -42,22 +52,105 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
             currentValue = createGridCache();
             gridEntryCache.put(world, currentValue);
         }
-        Long gridEntryKey = (long) gridX << 32 | gridZ & 0xFFFFFFFFL;
+        Long gridEntryKey = getGridEntryKey(gridX, gridZ);
         CachedGridEntry gridEntry = currentValue.getIfPresent(gridEntryKey);
         if (gridEntry == null) {
-            gridEntry = new CachedGridEntry(world, gridX, gridZ, primerChunkX, primerChunkZ);
+            GTWorldGenCapability masterEntry = getMasterEntry(world, gridX, gridZ, primerChunkX, primerChunkZ);
+            gridEntry = takePregeneratedEntry(world, gridEntryKey, masterEntry);
+            if (gridEntry == null) {
+                gridEntry = new CachedGridEntry(gridX, gridZ, world.getSeed(), getDepositMap(world, gridX, gridZ), masterEntry, world.getSeaLevel());
+            }
             currentValue.put(gridEntryKey, gridEntry);
+            if (ConfigHolder.worldgen.veinPregenerationThreads > 0) {
+                pregenerateNeighbors(world, currentValue, gridX, gridZ);
+            }
         }
         return gridEntry;
     }
 
     private static Cache<Long, CachedGridEntry> createGridCache() {
         return CacheBuilder.newBuilder()
-                .maximumSize(300)
+                .maximumSize(Math.max(9, ConfigHolder.worldgen.oreVeinCacheSize))
                 .expireAfterAccess(5L, TimeUnit.MINUTES)
                 .build();
     }
 
+    private static Cache<Long, Future<CachedGridEntry>> createPregenerationCache() {
+        // entries nobody takes must not block pregeneration or be kept in memory forever
+        return CacheBuilder.newBuilder()
+                .maximumSize(ConfigHolder.worldgen.oreVeinCacheSize)
+                .expireAfterWrite(1L, TimeUnit.MINUTES)
+                .<Long, Future<CachedGridEntry>>removalListener(notification -> {
+                    if (notification.wasEvicted()) {
+                        notification.getValue().cancel(false);
+                    }
+                })
+                .build();
+    }
+
+    private static Long getGridEntryKey(int gridX, int gridZ) {
+        return (long) gridX << 32 | gridZ & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Starts generating the veins of the grid entries around a grid on worker threads.
+     * <p>
+     * Only grids whose first generated chunk is loaded are pregenerated, because the terrain height of other grids
+     * depends on the chunk which happens to be generated first. Chunks are never loaded or generated to pregenerate. Veins only depend on the grid position,
+     * the world seed and that terrain height, so a pregenerated entry is identical to one created on demand.
+     */
+    private static void pregenerateNeighbors(World world, Cache<Long, CachedGridEntry> cache, int centerGridX, int centerGridZ) {
+        Cache<Long, Future<CachedGridEntry>> pendingEntries = pregeneratedEntries.computeIfAbsent(world, k -> createPregenerationCache());
+        for (int gridX = centerGridX - 1; gridX <= centerGridX + 1; gridX++) {
+            for (int gridZ = centerGridZ - 1; gridZ <= centerGridZ + 1; gridZ++) {
+                Long gridEntryKey = getGridEntryKey(gridX, gridZ);
+                if (pendingEntries.getIfPresent(gridEntryKey) != null || cache.getIfPresent(gridEntryKey) != null) continue;
+                GTWorldGenCapability masterEntry = searchLoadedMasterOrNull(world, gridX, gridZ);
+                if (masterEntry == null) continue;
+
+                //worker threads must not access the world, so sample everything here
+                GTWorldGenCapability masterHeights = new GTWorldGenCapability();
+                masterHeights.setFrom(masterEntry);
+                List<Entry<Integer, OreDepositDefinition>> depositMap = getDepositMap(world, gridX, gridZ);
+                long worldSeed = world.getSeed();
+                int seaLevel = world.getSeaLevel();
+                int entryGridX = gridX;
+                int entryGridZ = gridZ;
+                pendingEntries.put(gridEntryKey, getPregenerationExecutor().submit(() ->
+                        new CachedGridEntry(entryGridX, entryGridZ, worldSeed, depositMap, masterHeights, seaLevel)));
+            }
+        }
+    }
+
+    @Nullable
+    private static CachedGridEntry takePregeneratedEntry(World world, Long gridEntryKey, GTWorldGenCapability masterEntry) {
+        Cache<Long, Future<CachedGridEntry>> pendingEntries = pregeneratedEntries.get(world);
+        Future<CachedGridEntry> future = pendingEntries == null ? null : pendingEntries.asMap().remove(gridEntryKey);
+        if (future == null) return null;
+        CachedGridEntry gridEntry;
+        try {
+            gridEntry = future.get();
+        } catch (InterruptedException | ExecutionException exception) {
+            GTLog.logger.error("Failed to pregenerate ore veins, generating them again", exception);
+            return null;
+        }
+        //the first generated chunk of the grid may have changed since the entry was scheduled
+        if (gridEntry.masterEntry.getMaxHeight() != masterEntry.getMaxHeight() ||
+                gridEntry.masterEntry.getMaxBottomHeight() != masterEntry.getMaxBottomHeight()) {
+            return null;
+        }
+        gridEntry.masterEntry = masterEntry;
+        return gridEntry;
+    }
+
+    private static ExecutorService getPregenerationExecutor() {
+        if (pregenerationExecutor == null) {
+            pregenerationExecutor = Executors.newFixedThreadPool(ConfigHolder.worldgen.veinPregenerationThreads,
+                    new ThreadFactoryBuilder().setNameFormat("GregTech Vein Pregeneration #%d").setDaemon(true).build());
+        }
+        return pregenerationExecutor;
+    }
+
     private final TLongObjectMap<ChunkDataEntry> dataByChunkPos = new TLongObjectHashMap<>();
     private static final Comparator<OreDepositDefinition> COMPARATOR = Comparator.comparing(OreDepositDefinition::getPriority).reversed();
     private static final BlockPos[] CHUNK_CORNER_SPOTS = new BlockPos[]{
@@ -79,33 +172,47 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
     private OreDepositDefinition currentOreVein;
 
     public CachedGridEntry(World world, int gridX, int gridZ, int primerChunkX, int primerChunkZ) {
+        this(gridX, gridZ, world.getSeed(), getDepositMap(world, gridX, gridZ), getMasterEntry(world, gridX, gridZ, primerChunkX, primerChunkZ), world.getSeaLevel());
+    }
+
+    /**
+     * Creates a grid entry and generates its veins without accessing the world
+     */
+    private CachedGridEntry(int gridX, int gridZ, long worldSeed, List<Entry<Integer, OreDepositDefinition>> depositMap, GTWorldGenCapability masterEntry, int worldSeaLevel) {
         this.gridX = gridX;
         this.gridZ = gridZ;
-        long worldSeed = world.getSeed();
         this.gridRandom = new XSTR(31L * 31 * gridX + gridZ * 31L + Long.hashCode(worldSeed));
+        this.cachedDepositMap = depositMap;
+        this.worldSeaLevel = worldSeaLevel;
+        this.masterEntry = masterEntry;
+        triggerVeinsGeneration();
+    }
 
+    private static List<Entry<Integer, OreDepositDefinition>> getDepositMap(World world, int gridX, int gridZ) {
         int gridSizeX = WorldGeneratorImpl.GRID_SIZE_X * 16;
         int gridSizeZ = WorldGeneratorImpl.GRID_SIZE_Z * 16;
         BlockPos blockPos = new BlockPos(gridX * gridSizeX + gridSizeX / 2, world.getActualHeight(), gridZ * gridSizeZ + gridSizeZ / 2);
         Biome currentBiome = world.getBiomeProvider().getBiome(blockPos);
-        this.cachedDepositMap = new ArrayList<>(WorldGenRegistry.INSTANCE.getCachedBiomeVeins(world.provider, currentBiome));
+        return new ArrayList<>(WorldGenRegistry.INSTANCE.getCachedBiomeVeins(world.provider, currentBiome));
+    }
+
+    private static GTWorldGenCapability getMasterEntry(World world, int gridX, int gridZ, int primerChunkX, int primerChunkZ) {
+        GTWorldGenCapability masterEntry = searchMasterOrNull(world, gridX, gridZ);
+        return masterEntry == null ? createMasterEntry(world, gridX, gridZ, primerChunkX, primerChunkZ) : masterEntry;
+    }
 
-        this.worldSeaLevel = world.getSeaLevel();
-        this.masterEntry = searchMasterOrNull(world);
+    private static GTWorldGenCapability createMasterEntry(World world, int gridX, int gridZ, int primerChunkX, int primerChunkZ) {
+        Chunk primerChunk = world.getChunk(primerChunkX, primerChunkZ);
+        BlockPos heightSpot = findOptimalSpot(gridX, gridZ, primerChunkX, primerChunkZ);
+        heightSpot = heightSpot.add(primerChunkX * 16, 0, primerChunkZ * 16);
+        int masterHeight = world.getHeight(heightSpot).getY();
+        int masterBottomHeight = world.getTopSolidOrLiquidBlock(heightSpot).getY();
+        GTWorldGenCapability masterEntry = primerChunk.getCapability(GTWorldGenCapability.CAPABILITY, null);
         if (masterEntry == null) {
-            Chunk primerChunk = world.getChunk(primerChunkX, primerChunkZ);
-            BlockPos heightSpot = findOptimalSpot(gridX, gridZ, primerChunkX, primerChunkZ);
-            heightSpot = heightSpot.add(primerChunkX * 16, 0, primerChunkZ * 16);
-            int masterHeight = world.getHeight(heightSpot).getY();
-            int masterBottomHeight = world.getTopSolidOrLiquidBlock(heightSpot).getY();
-            this.masterEntry = primerChunk.getCapability(GTWorldGenCapability.CAPABILITY, null);
-            if(this.masterEntry == null) {
-                this.masterEntry = new GTWorldGenCapability();
-            }
-            this.masterEntry.setMaxHeight(masterHeight, masterBottomHeight);
+            masterEntry = new GTWorldGenCapability();
         }
-
-        triggerVeinsGeneration();
+        masterEntry.setMaxHeight(masterHeight, masterBottomHeight);
+        return masterEntry;
     }
 
     private static BlockPos findOptimalSpot(int gridX, int gridZ, int chunkX, int chunkZ) {
@@ -127,7 +234,8 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
         return mostClosePos;
     }
 
-    private GTWorldGenCapability searchMasterOrNull(World world) {
+    @Nullable
+    private static GTWorldGenCapability searchMasterOrNull(World world, int gridX, int gridZ) {
         int gridSizeX = WorldGeneratorImpl.GRID_SIZE_X;
         int gridSizeZ = WorldGeneratorImpl.GRID_SIZE_Z;
         int startChunkX = gridX * gridSizeX;
@@ -144,6 +252,31 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
         return null;
     }
 
+    /**
+     * Same as {@link #searchMasterOrNull(World, int, int)}, but returns null instead of loading the first generated chunk
+     */
+    @Nullable
+    private static GTWorldGenCapability searchLoadedMasterOrNull(World world, int gridX, int gridZ) {
+        int gridSizeX = WorldGeneratorImpl.GRID_SIZE_X;
+        int gridSizeZ = WorldGeneratorImpl.GRID_SIZE_Z;
+        int startChunkX = gridX * gridSizeX;
+        int startChunkZ = gridZ * gridSizeZ;
+        for (int x = 0; x < gridSizeX; x++) {
+            for (int z = 0; z < gridSizeZ; z++) {
+                int chunkX = startChunkX + x;
+                int chunkZ = startChunkZ + z;
+                Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+                if (chunk != null) {
+                    return chunk.getCapability(GTWorldGenCapability.CAPABILITY, null);
+                }
+                if (world.isChunkGeneratedAt(chunkX, chunkZ)) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
     @Override
     public int getTerrainHeight() {
         return masterEntry.getMaxHeight();
@@ -69,6 +69,26 @@ public class ConfigHolder {
                 "unless placed directly onto another pipe or cable.", "Default: true"})
         public boolean gt6StylePipesCables = true;
 
+        @Config.Comment({"Whether formed multiblocks should only check their structure when one of its blocks changes, instead of every second.",
+                "Default: true"})
+        public boolean eventDrivenStructureChecks = true;
+
+        @Config.Comment({"The interval in ticks in which formed multiblocks check their whole structure anyway, with event driven structure checks enabled.",
+                "This catches blocks changed without notifying their neighbours.", "Default: 600"})
+        @Config.RangeInt(min = 20)
+        public int structureCheckFallbackInterval = 600;
+
+        @Config.Comment({"Whether idle machines with nothing to do should stop ticking until their inputs, outputs, energy or neighbours change.",
+                "Experimental, a machine which is not woken up by a change stays idle until it is reloaded.",
+                "Default: false"})
+        public boolean machineHibernation = false;
+
+        @Config.Comment({"Whether fluid pipe networks should move the fluid of all their pipes at once, instead of every pipe passing fluid on to its neighbours.",
+                "Fluid flows straight to the nearest connected tanks, limited by the throughput of every pipe on the way, and still damages pipes which cannot carry it.",
+                "Covers between two pipes split the network at that point.", "Default: false"})
+        @Config.RequiresMcRestart
+        public boolean networkFluidTransport = false;
+
         @Config.Comment({"Divisor for Recipe Duration per Overclock.", "Default: 2.0"})
         @Config.RangeDouble(min = 2.0, max = 3.0)
         @Config.SlidingOption
@@ -94,6 +114,11 @@ public class ConfigHolder {
         @Config.RangeInt(min = 0)
         public int centralMonitorEuCost = 8;
 
+        @Config.Comment({"The interval in ticks at which Digital Interface Covers send changed data to players.",
+                "Covers only send data while a player is near them or near a Central Monitor screen showing them.", "Default: 2"})
+        @Config.RangeInt(min = 1)
+        public int digitalInterfaceUpdateInterval = 2;
+
         @Config.Comment({"Whether to play machine sounds while machines are active.", "Default: true"})
         public boolean machineSounds = true;
 
@@ -117,6 +142,12 @@ public class ConfigHolder {
         @Config.Comment({"Block to replace mined ores with in the miner and multiblock miner.", "Default: minecraft:cobblestone"})
         public String replaceMinedBlocksWith = "minecraft:cobblestone";
 
+        @Config.Comment({"The amount of failed recipe lookups to remember per Recipe Map.",
+                "Machines holding the same inputs as a remembered lookup skip the recipe search entirely.",
+                "Set to 0 to disable.", "Default: 1024"})
+        @Config.RangeInt(min = 0)
+        public int recipeLookupMissCacheSize = 1024;
+
         /**
          * <strong>Addons mods should not reference this config directly.</strong>
          * Use {@link gregtech.api.GregTechAPI#highTier} instead.
@@ -141,6 +172,16 @@ public class ConfigHolder {
         @Config.Comment({"Whether veins should be generated in the center of chunks.", "Default: true"})
         public boolean generateVeinsInCenterOfChunk = true;
 
+        @Config.Comment({"The maximum number of ore vein grid sections kept in memory per dimension.",
+                "Higher values avoid generating the veins of a section again during fast exploration, at the cost of memory.", "Default: 300"})
+        @Config.RangeInt(min = 9)
+        public int oreVeinCacheSize = 300;
+
+        @Config.Comment({"The number of worker threads generating the ore veins of nearby grid sections ahead of time.",
+                "Generated ores are the same with any number of threads. Changing the number of threads requires a restart.", "0 disables pregeneration.", "Default: 0"})
+        @Config.RangeInt(min = 0)
+        public int veinPregenerationThreads = 0;
+
         @Config.Comment({"Whether to disable Vanilla ore generation in world.", "Default: true"})
         public boolean disableVanillaOres = true;
 
@@ -283,6 +324,10 @@ public class ConfigHolder {
         @Config.Comment({"Whether to give the terminal to new players on login", "Default: true"})
         public boolean spawnTerminal = true;
 
+        @Config.Comment({"Whether to sync machine and pipe data to clients with a compact packet sent once per tick.",
+                "If false, the data is sent as NBT with block updates instead.", "Default: true"})
+        public boolean customDataPackets = true;
+
     }
 
     public static class ClientOptions {
@@ -8,7 +8,6 @@ import gregtech.api.unification.material.Materials;
 import gregtech.api.util.CapesRegistry;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.VirtualTankRegistry;
-import gregtech.api.worldgen.bedrockFluids.BedrockFluidVeinSaveData;
 import gregtech.common.items.MetaItems;
 import gregtech.common.items.armor.IStepAssist;
 import gregtech.common.items.behaviors.ToggleEnergyConsumerBehavior;
@@ -217,16 +216,6 @@ public class EventHandlers {
         CapesRegistry.unlockCapeOnAdvancement(event.getEntityPlayer(), event.getAdvancement());
     }
 
-    @SubscribeEvent
-    public static void onWorldUnloadEvent(WorldEvent.Unload event) {
-        BedrockFluidVeinSaveData.setDirty();
-    }
-
-    @SubscribeEvent
-    public static void onWorldSaveEvent(WorldEvent.Save event) {
-        BedrockFluidVeinSaveData.setDirty();
-    }
-
     @SubscribeEvent
     public static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
         if (ConfigHolder.misc.spawnTerminal) {
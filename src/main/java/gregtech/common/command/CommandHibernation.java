@@ -0,0 +1,49 @@
+package gregtech.common.command;
+
+import gregtech.api.metatileentity.MetaTileEntityHibernation;
+import gregtech.api.metatileentity.MetaTileEntityHolder;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.world.WorldServer;
+
+import javax.annotation.Nonnull;
+
+public class CommandHibernation extends CommandBase {
+
+    @Nonnull
+    @Override
+    public String getName() {
+        return "hibernation";
+    }
+
+    @Nonnull
+    @Override
+    public String getUsage(@Nonnull ICommandSender sender) {
+        return "gregtech.command.hibernation.usage";
+    }
+
+    @Override
+    public void execute(@Nonnull MinecraftServer server, @Nonnull ICommandSender sender, @Nonnull String[] args) {
+        int totalHibernating = 0;
+        int totalMachines = 0;
+        for (WorldServer world : server.worlds) {
+            int machines = 0;
+            for (TileEntity tileEntity : world.loadedTileEntityList) {
+                if (tileEntity instanceof MetaTileEntityHolder) {
+                    machines++;
+                }
+            }
+            if (machines == 0) continue;
+
+            int hibernating = MetaTileEntityHibernation.getHibernatingCount(world);
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.hibernation.entry",
+                    world.provider.getDimension(), hibernating, machines));
+            totalHibernating += hibernating;
+            totalMachines += machines;
+        }
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.hibernation.total", totalHibernating, totalMachines));
+    }
+}
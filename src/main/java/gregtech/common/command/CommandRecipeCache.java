@@ -0,0 +1,43 @@
+package gregtech.common.command;
+
+import gregtech.api.recipes.RecipeMap;
+import gregtech.api.recipes.map.RecipeLookupMissCache;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import javax.annotation.Nonnull;
+
+public class CommandRecipeCache extends CommandBase {
+
+    @Nonnull
+    @Override
+    public String getName() {
+        return "recipecache";
+    }
+
+    @Nonnull
+    @Override
+    public String getUsage(@Nonnull ICommandSender sender) {
+        return "gregtech.command.recipecache.usage";
+    }
+
+    @Override
+    public void execute(@Nonnull MinecraftServer server, @Nonnull ICommandSender sender, @Nonnull String[] args) {
+        long totalHits = 0;
+        long totalMisses = 0;
+        for (RecipeMap<?> recipeMap : RecipeMap.getRecipeMaps()) {
+            RecipeLookupMissCache cache = recipeMap.getLookupMissCache();
+            long hits = cache.getHits();
+            long misses = cache.getMisses();
+            if (hits == 0 && misses == 0) continue;
+
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.recipecache.entry",
+                    recipeMap.unlocalizedName, hits, misses, cache.size()));
+            totalHits += hits;
+            totalMisses += misses;
+        }
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.recipecache.total", totalHits, totalMisses));
+    }
+}
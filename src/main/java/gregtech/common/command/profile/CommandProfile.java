@@ -0,0 +1,32 @@
+package gregtech.common.command.profile;
+
+import net.minecraft.command.ICommandSender;
+import net.minecraftforge.server.command.CommandTreeBase;
+
+import javax.annotation.Nonnull;
+
+public class CommandProfile extends CommandTreeBase {
+
+    public CommandProfile() {
+        addSubcommand(new CommandProfileStart());
+        addSubcommand(new CommandProfileStop());
+        addSubcommand(new CommandProfileDump());
+    }
+
+    @Nonnull
+    @Override
+    public String getName() {
+        return "profile";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel() {
+        return 3;
+    }
+
+    @Nonnull
+    @Override
+    public String getUsage(@Nonnull ICommandSender sender) {
+        return "gregtech.command.profile.usage";
+    }
+}
@@ -0,0 +1,46 @@
+package gregtech.common.command.profile;
+
+import gregtech.api.util.GTLog;
+import gregtech.api.util.GTProfiler;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+public class CommandProfileDump extends CommandBase {
+
+    @Nonnull
+    @Override
+    public String getName() {
+        return "dump";
+    }
+
+    @Nonnull
+    @Override
+    public String getUsage(@Nonnull ICommandSender sender) {
+        return "gregtech.command.profile.dump.usage";
+    }
+
+    @Override
+    public void execute(@Nonnull MinecraftServer server, @Nonnull ICommandSender sender, @Nonnull String[] args) {
+        String fileName = "profile_" + new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date()) + ".csv";
+        File file = server.getFile("gregtech/profiles/" + fileName);
+        try {
+            GTProfiler.writeReport(file);
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.dump.success", file.getPath())
+                    .setStyle(new Style().setColor(TextFormatting.GREEN)));
+        } catch (IOException exception) {
+            GTLog.logger.error("Failed to write profile", exception);
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.dump.failed")
+                    .setStyle(new Style().setColor(TextFormatting.RED)));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package gregtech.common.command.profile;
+
+import gregtech.api.util.GTProfiler;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import javax.annotation.Nonnull;
+
+public class CommandProfileStart extends CommandBase {
+
+    @Nonnull
+    @Override
+    public String getName() {
+        return "start";
+    }
+
+    @Nonnull
+    @Override
+    public String getUsage(@Nonnull ICommandSender sender) {
+        return "gregtech.command.profile.start.usage";
+    }
+
+    @Override
+    public void execute(@Nonnull MinecraftServer server, @Nonnull ICommandSender sender, @Nonnull String[] args) {
+        boolean wasRunning = GTProfiler.isRunning();
+        GTProfiler.start();
+        sender.sendMessage(new TextComponentTranslation(wasRunning ?
+                "gregtech.command.profile.start.restarted" : "gregtech.command.profile.start.success"));
+    }
+}
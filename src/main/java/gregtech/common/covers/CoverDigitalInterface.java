@@ -20,9 +20,11 @@ import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
 import gregtech.api.metatileentity.multiblock.MultiblockAbility;
 import gregtech.api.metatileentity.multiblock.MultiblockControllerBase;
 import gregtech.api.util.GTLog;
+import gregtech.api.util.GTUtility;
 import gregtech.api.util.Position;
 import gregtech.client.renderer.texture.Textures;
 import gregtech.client.utils.RenderUtil;
+import gregtech.common.ConfigHolder;
 import gregtech.common.terminal.app.prospector.widget.WidgetOreList;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.GlStateManager;
@@ -66,6 +68,9 @@ import java.util.UUID;
 
 public class CoverDigitalInterface extends CoverBehavior implements IFastRenderMetaTileEntity, ITickable, CoverWithUI {
 
+    // ticks a screen view keeps this cover syncing, screens report their view every 20 ticks
+    private static final int SCREEN_VIEW_TIMEOUT = 40;
+
     public enum MODE {
         FLUID,
         ITEM,
@@ -95,6 +100,7 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
     private boolean isWorkingEnabled = false;
     private long lastClickTime;
     private UUID lastClickUUID;
+    private long lastScreenViewTime = -1; // server-only
     // persistent data
     protected int slot = 0;
     protected MODE mode = MODE.PROXY;
@@ -283,11 +289,52 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
 
     @Override
     public void update() {
-        if (!isRemote() && coverHolder.getOffsetTimer() % 2 ==0) {
-            syncAllInfo();
+        if (!isRemote()) {
+            long timer = coverHolder.getOffsetTimer();
+            if (timer % 20 == 0) {
+                // the energy history is sent with the initial sync data, so it is kept up to date without viewers
+                updateEnergyHistory();
+            }
+            if ((timer % ConfigHolder.machines.digitalInterfaceUpdateInterval == 0 || timer % 20 == 0) && isViewed()) {
+                syncAllInfo();
+            }
+        }
+    }
+
+    private void updateEnergyHistory() {
+        if (this.mode == MODE.ENERGY || (mode == MODE.PROXY && proxyMode[2] > 0)) {
+            IEnergyContainer energyContainer = this.getEnergyCapability();
+            if (energyContainer != null) {
+                energyInputPerDur = energyContainer.getInputPerSec();
+                energyOutputPerDur = energyContainer.getOutputPerSec();
+                addEnergyHistory();
+            }
         }
     }
 
+    private void addEnergyHistory() {
+        inputEnergyList.add(energyInputPerDur);
+        outputEnergyList.add(energyOutputPerDur);
+        if (inputEnergyList.size() > 13) {
+            inputEnergyList.remove(0);
+            outputEnergyList.remove(0);
+        }
+    }
+
+    /**
+     * Called by Central Monitor screens showing this cover, while a player is near them
+     */
+    public void onScreenViewed() {
+        this.lastScreenViewTime = coverHolder.getOffsetTimer();
+    }
+
+    private boolean isViewed() {
+        if (lastScreenViewTime >= 0 && coverHolder.getOffsetTimer() - lastScreenViewTime <= SCREEN_VIEW_TIMEOUT) {
+            return true;
+        }
+        return GTUtility.isPosChunkWatched(coverHolder.getWorld(), coverHolder.getPos());
+    }
+
     @Override
     public EnumActionResult onScrewdriverClick(EntityPlayer playerIn, EnumHand hand, CuboidRayTraceResult hitResult) {
         if (!this.coverHolder.getWorld().isRemote) {
@@ -563,14 +610,8 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
                 }
                 if (this.coverHolder.getOffsetTimer() % 20 == 0) { //per second
                     writeUpdateData(GregtechDataCodes.UPDATE_ENERGY_PER, packetBuffer -> {
-                        packetBuffer.writeLong(energyContainer.getInputPerSec());
-                        packetBuffer.writeLong(energyContainer.getOutputPerSec());
-                        inputEnergyList.add(energyInputPerDur);
-                        outputEnergyList.add(energyOutputPerDur);
-                        if (inputEnergyList.size() > 13) {
-                            inputEnergyList.remove(0);
-                            outputEnergyList.remove(0);
-                        }
+                        packetBuffer.writeLong(energyInputPerDur);
+                        packetBuffer.writeLong(energyOutputPerDur);
                     });
                 }
             }
@@ -790,12 +831,7 @@ public class CoverDigitalInterface extends CoverBehavior implements IFastRenderM
         } else if (id == GregtechDataCodes.UPDATE_ENERGY_PER) {
             energyInputPerDur = packetBuffer.readLong();
             energyOutputPerDur = packetBuffer.readLong();
-            inputEnergyList.add(energyInputPerDur);
-            outputEnergyList.add(energyOutputPerDur);
-            if (inputEnergyList.size() > 13) {
-                inputEnergyList.remove(0);
-                outputEnergyList.remove(0);
-            }
+            addEnergyHistory();
         } else if (id == GregtechDataCodes.UPDATE_MACHINE) {
             this.progress = packetBuffer.readInt();
             this.maxProgress = packetBuffer.readInt();
@@ -30,7 +30,6 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.*;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockPos.PooledMutableBlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraftforge.common.capabilities.Capability;
@@ -135,8 +134,7 @@ public class CoverPump extends CoverBehavior implements CoverWithUI, ITickable,
     }
 
     protected int doTransferFluids(int transferLimit) {
-        BlockPos pos = coverHolder.getPos().offset(attachedSide);
-        TileEntity tileEntity = coverHolder.getWorld().getTileEntity(pos);
+        TileEntity tileEntity = coverHolder.getNeighbor(attachedSide);
         IFluidHandler fluidHandler = tileEntity == null ? null : tileEntity.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, attachedSide.getOpposite());
         IFluidHandler myFluidHandler = coverHolder.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, attachedSide);
         if (fluidHandler == null || myFluidHandler == null) {
@@ -67,6 +67,7 @@ public class CoverShutter extends CoverBehavior implements IControllable {
     @Override
     public void setWorkingEnabled(boolean isActivationAllowed) {
         isWorkingAllowed = isActivationAllowed;
+        markAsDirty();
     }
 
     @Override
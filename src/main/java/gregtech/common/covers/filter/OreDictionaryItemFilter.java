@@ -4,16 +4,12 @@ import gregtech.api.gui.GuiTextures;
 import gregtech.api.gui.Widget;
 import gregtech.api.gui.widgets.DrawableWidget;
 import gregtech.api.gui.widgets.ImageWidget;
-import gregtech.api.util.ItemStackHashStrategy;
 import gregtech.api.util.oreglob.OreGlob;
 import gregtech.api.util.oreglob.OreGlobCompileResult;
 import gregtech.common.covers.filter.oreglob.impl.ImpossibleOreGlob;
 import gregtech.common.gui.widget.HighlightedTextField;
 import gregtech.common.gui.widget.orefilter.ItemOreFilterTestSlot;
 import gregtech.common.gui.widget.orefilter.OreGlobCompileStatusWidget;
-import it.unimi.dsi.fastutil.Hash;
-import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
-import it.unimi.dsi.fastutil.objects.Object2BooleanOpenCustomHashMap;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.text.TextFormatting;
@@ -22,14 +18,10 @@ import java.util.function.Consumer;
 
 public class OreDictionaryItemFilter extends ItemFilter {
 
-    private static final Hash.Strategy<ItemStack> HASH_STRATEGY = ItemStackHashStrategy.builder().compareItem(true).compareDamage(true).build();
-
     protected String expression = "";
     private OreGlob glob = ImpossibleOreGlob.getInstance();
     private boolean error;
 
-    private final Object2BooleanMap<ItemStack> matchCache = new Object2BooleanOpenCustomHashMap<>(HASH_STRATEGY);
-
     public String getExpression() {
         return expression;
     }
@@ -56,7 +48,6 @@ public class OreDictionaryItemFilter extends ItemFilter {
                         this.error = true;
                         compilationStatus.setCompileResult(null);
                     }
-                    this.matchCache.clear();
                     markDirty();
                     for (ItemOreFilterTestSlot slot : testSlot) {
                         slot.setGlob(this.error ? null : this.glob);
@@ -122,14 +113,7 @@ public class OreDictionaryItemFilter extends ItemFilter {
     }
 
     public boolean matchesItemStack(ItemStack itemStack) {
-        if (this.error) return false;
-        Boolean cached = this.matchCache.get(itemStack);
-        if (cached != null) {
-            return cached;
-        }
-        boolean matches = this.glob.matches(itemStack);
-        this.matchCache.put(itemStack, matches);
-        return matches;
+        return !this.error && this.glob.matches(itemStack);
     }
 
     @Override
@@ -18,6 +18,7 @@ import gregtech.api.metatileentity.multiblock.*;
 import gregtech.api.pattern.*;
 import gregtech.api.util.BlockInfo;
 import gregtech.api.util.GTUtility;
+import gregtech.api.util.world.DummyWorld;
 import gregtech.client.renderer.ICubeRenderer;
 import gregtech.client.renderer.texture.Textures;
 import gregtech.client.utils.TooltipHelper;
@@ -30,6 +31,10 @@ import gregtech.common.metatileentities.multi.MetaTileEntityCokeOven;
 import gregtech.common.metatileentities.multi.MetaTileEntityPrimitiveBlastFurnace;
 import gregtech.common.metatileentities.multi.MetaTileEntityPrimitiveWaterPump;
 import gregtech.common.metatileentities.multi.electric.centralmonitor.MetaTileEntityCentralMonitor;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockDoor;
 import net.minecraft.block.state.IBlockState;
@@ -50,6 +55,7 @@ import net.minecraft.util.text.Style;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.fml.common.Loader;
 import org.apache.commons.lang3.ArrayUtils;
@@ -79,6 +85,8 @@ public class MetaTileEntityCleanroom extends MultiblockWithDisplayBase implement
 
     private final CleanroomLogic cleanroomLogic;
     private final Collection<ICleanroomReceiver> cleanroomReceivers = new HashSet<>();
+    // the blocks of the structure outside its interior, which are indexed for changes
+    private LongSet indexedPositions;
 
     public MetaTileEntityCleanroom(ResourceLocation metaTileEntityId) {
         super(metaTileEntityId);
@@ -116,6 +124,44 @@ public class MetaTileEntityCleanroom extends MultiblockWithDisplayBase implement
         // taller cleanrooms take longer than wider ones
         // minimum of 100 is a 5x5x5 cleanroom: 125-25=100 ticks
         this.cleanroomLogic.setMaxProgress(Math.max(100, ((lDist + rDist + 1) * (bDist + fDist + 1) * hDist) - ((lDist + rDist + 1) * (bDist + fDist + 1))));
+        if (!getWorld().isRemote && !(getWorld() instanceof DummyWorld)) {
+            updateInterior();
+        }
+    }
+
+    /**
+     * Finds the interior of the formed structure and adds it to the {@link CleanroomIndex}.
+     * Changes inside are handled by {@link #onMachinePlaced(MetaTileEntity)} instead of checking the structure again.
+     */
+    private void updateInterior() {
+        LongSet positions = structurePattern.cache.keySet();
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        LongIterator iterator = positions.iterator();
+        while (iterator.hasNext()) {
+            BlockPos pos = BlockPos.fromLong(iterator.nextLong());
+            minX = Math.min(minX, pos.getX());
+            minY = Math.min(minY, pos.getY());
+            minZ = Math.min(minZ, pos.getZ());
+            maxX = Math.max(maxX, pos.getX());
+            maxY = Math.max(maxY, pos.getY());
+            maxZ = Math.max(maxZ, pos.getZ());
+        }
+        StructureBoundingBox interior = new StructureBoundingBox(minX + 1, minY + 1, minZ + 1, maxX - 1, maxY - 1, maxZ - 1);
+        this.indexedPositions = new LongOpenHashSet();
+        iterator = positions.iterator();
+        while (iterator.hasNext()) {
+            long pos = iterator.nextLong();
+            if (!interior.isVecInside(BlockPos.fromLong(pos))) {
+                indexedPositions.add(pos);
+            }
+        }
+        CleanroomIndex.addCleanroom(getWorld(), this, interior);
+    }
+
+    @Override
+    protected LongCollection getIndexedStructurePositions() {
+        return indexedPositions == null ? super.getIndexedStructurePositions() : indexedPositions;
     }
 
     @Override
@@ -124,8 +170,21 @@ public class MetaTileEntityCleanroom extends MultiblockWithDisplayBase implement
         resetTileAbilities();
         this.cleanroomLogic.invalidate();
         this.cleanAmount = MIN_CLEAN_AMOUNT;
-        cleanroomReceivers.forEach(receiver -> receiver.setCleanroom(null));
+        cleanroomReceivers.forEach(receiver -> {
+            receiver.setCleanroom(null);
+            receiver.onCleanroomStateChanged();
+        });
         cleanroomReceivers.clear();
+        CleanroomIndex.removeCleanroom(getWorld(), this);
+        this.indexedPositions = null;
+    }
+
+    @Override
+    public void onUnload() {
+        super.onUnload();
+        if (!getWorld().isRemote) {
+            CleanroomIndex.removeCleanroom(getWorld(), this);
+        }
     }
 
     @Override
@@ -396,26 +455,40 @@ public class MetaTileEntityCleanroom extends MultiblockWithDisplayBase implement
             TileEntity tileEntity = blockWorldState.getTileEntity();
             if (!(tileEntity instanceof IGregTechTileEntity)) return true;
 
-            MetaTileEntity metaTileEntity = ((IGregTechTileEntity) tileEntity).getMetaTileEntity();
+            return acceptInnerMachine(((IGregTechTileEntity) tileEntity).getMetaTileEntity());
+        });
+    }
 
-            // always ban other cleanrooms, can cause problems otherwise
-            if (metaTileEntity instanceof ICleanroomProvider)
-                return false;
+    /**
+     * @param metaTileEntity the machine inside the cleanroom
+     * @return if the machine is allowed inside, giving it this cleanroom if it receives one
+     */
+    private boolean acceptInnerMachine(MetaTileEntity metaTileEntity) {
+        // always ban other cleanrooms, can cause problems otherwise
+        if (metaTileEntity instanceof ICleanroomProvider)
+            return false;
 
-            if (isMachineBanned(metaTileEntity))
-                return false;
+        if (isMachineBanned(metaTileEntity))
+            return false;
 
-            // the machine does not need a cleanroom, so do nothing more
-            if (!(metaTileEntity instanceof ICleanroomReceiver)) return true;
+        // the machine does not need a cleanroom, so do nothing more
+        if (!(metaTileEntity instanceof ICleanroomReceiver)) return true;
 
-            // give the machine this cleanroom if it doesn't have this one
-            ICleanroomReceiver cleanroomReceiver = (ICleanroomReceiver) metaTileEntity;
-            if (cleanroomReceiver.getCleanroom() != this) {
-                cleanroomReceiver.setCleanroom(this);
-                cleanroomReceivers.add(cleanroomReceiver);
-            }
-            return true;
-        });
+        // give the machine this cleanroom if it doesn't have this one
+        ICleanroomReceiver cleanroomReceiver = (ICleanroomReceiver) metaTileEntity;
+        if (cleanroomReceiver.getCleanroom() != this) {
+            cleanroomReceiver.setCleanroom(this);
+            cleanroomReceivers.add(cleanroomReceiver);
+            cleanroomReceiver.onCleanroomStateChanged();
+        }
+        return true;
+    }
+
+    @Override
+    public void onMachinePlaced(@Nonnull MetaTileEntity metaTileEntity) {
+        if (isStructureFormed() && !acceptInnerMachine(metaTileEntity)) {
+            invalidateStructure();
+        }
     }
 
     protected boolean isMachineBanned(MetaTileEntity metaTileEntity) {
@@ -503,13 +576,23 @@ public class MetaTileEntityCleanroom extends MultiblockWithDisplayBase implement
 
     @Override
     public void setCleanAmount(int amount) {
+        boolean wasClean = isClean();
         this.cleanAmount = amount;
+        if (wasClean != isClean()) notifyCleanroomReceivers();
     }
 
     @Override
     public void adjustCleanAmount(int amount) {
+        boolean wasClean = isClean();
         // do not allow negative cleanliness nor cleanliness above 100
         this.cleanAmount = MathHelper.clamp(this.cleanAmount + amount, 0, 100);
+        if (wasClean != isClean()) notifyCleanroomReceivers();
+    }
+
+    private void notifyCleanroomReceivers() {
+        // receivers are only removed when the structure is invalidated, so drop the ones which were broken since
+        cleanroomReceivers.removeIf(receiver -> receiver instanceof MetaTileEntity && !((MetaTileEntity) receiver).isValid());
+        cleanroomReceivers.forEach(ICleanroomReceiver::onCleanroomStateChanged);
     }
 
     @Override
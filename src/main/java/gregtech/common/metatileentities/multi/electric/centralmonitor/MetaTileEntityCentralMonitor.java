@@ -24,6 +24,7 @@ import gregtech.api.pattern.FactoryBlockPattern;
 import gregtech.api.pattern.PatternMatchContext;
 import gregtech.api.pipenet.tile.TileEntityPipeBase;
 import gregtech.api.util.FacingPos;
+import gregtech.api.util.GTUtility;
 import gregtech.client.renderer.ICubeRenderer;
 import gregtech.client.renderer.texture.Textures;
 import gregtech.client.utils.RenderUtil;
@@ -364,7 +365,8 @@ public class MetaTileEntityCentralMonitor extends MultiblockWithDisplayBase impl
     protected void updateFormedValid() {
         if (this.getOffsetTimer() % 20 ==0) {
             setActive(inputEnergy.changeEnergy(ENERGY_COST * this.getMultiblockParts().size()) == ENERGY_COST * this.getMultiblockParts().size());
-            if (checkCovers()) {
+            // the covers are only shown on the screens, so they are not checked while nobody can see them
+            if (GTUtility.isPosChunkWatched(getWorld(), getPos()) && checkCovers()) {
                 this.getMultiblockParts().forEach(part -> {
                     Set<FacingPos> covers = getAllCovers();
                     if (part instanceof MetaTileEntityMonitorScreen) {
@@ -18,6 +18,7 @@ import gregtech.api.metatileentity.multiblock.MultiblockControllerBase;
 import gregtech.api.pipenet.tile.TileEntityPipeBase;
 import gregtech.api.util.FacingPos;
 import gregtech.api.util.GTLog;
+import gregtech.api.util.GTUtility;
 import gregtech.client.utils.RenderUtil;
 import gregtech.common.covers.CoverDigitalInterface;
 import gregtech.common.gui.widget.WidgetARGB;
@@ -257,6 +258,12 @@ public class MetaTileEntityMonitorScreen extends MetaTileEntityMultiblockPart {
         if (plugin != null && this.getController() != null && this.isActive()) {
             plugin.update();
         }
+        if (!getWorld().isRemote && this.coverPos != null && getOffsetTimer() % 20 == 0 && GTUtility.isPosChunkWatched(getWorld(), getPos())) {
+            CoverDigitalInterface cover = getCoverFromPosSide(this.coverPos);
+            if (cover != null) {
+                cover.onScreenViewed();
+            }
+        }
     }
 
     @SideOnly(Side.CLIENT)
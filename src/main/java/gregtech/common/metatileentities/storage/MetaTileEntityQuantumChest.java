@@ -70,6 +70,8 @@ public class MetaTileEntityQuantumChest extends MetaTileEntity implements ITiere
     private static final String NBT_ITEMSTACK = "ItemStack";
     private static final String NBT_PARTIALSTACK = "PartialStack";
     private static final String NBT_ITEMCOUNT = "ItemAmount";
+    // ticks between syncs of a changed item count, changes from and to empty are synced immediately
+    private static final int ITEM_COUNT_SYNC_INTERVAL = 10;
     protected IItemHandler outputItemInventory;
     private ItemHandlerList combinedInventory;
     private ItemStack previousStack;
@@ -127,11 +129,11 @@ public class MetaTileEntityQuantumChest extends MetaTileEntity implements ITiere
         super.update();
         EnumFacing currentOutputFacing = getOutputFacing();
         if (!getWorld().isRemote) {
-            if (itemsStoredInside < maxStoredItems) {
-                ItemStack inputStack = importItems.getStackInSlot(0);
+            ItemStack inputStack = importItems.getStackInSlot(0);
+            if (!inputStack.isEmpty() && itemsStoredInside < maxStoredItems) {
                 ItemStack outputStack = exportItems.getStackInSlot(0);
                 if (outputStack.isEmpty() || outputStack.isItemEqual(inputStack) && ItemStack.areItemStackTagsEqual(inputStack, outputStack)) {
-                    if (!inputStack.isEmpty() && (itemStack.isEmpty() || areItemStackIdentical(itemStack, inputStack))) {
+                    if (itemStack.isEmpty() || areItemStackIdentical(itemStack, inputStack)) {
                         int amountOfItemsToInsert = (int) Math.min(inputStack.getCount(), maxStoredItems - itemsStoredInside);
                         if (this.itemsStoredInside == 0L || itemStack.isEmpty()) {
                             this.itemStack = GTUtility.copyAmount(1, inputStack);
@@ -147,7 +149,7 @@ public class MetaTileEntityQuantumChest extends MetaTileEntity implements ITiere
             if (itemsStoredInside > 0 && !itemStack.isEmpty()) {
                 ItemStack outputStack = exportItems.getStackInSlot(0);
                 int maxStackSize = itemStack.getMaxStackSize();
-                if (outputStack.isEmpty() || (areItemStackIdentical(itemStack, outputStack) && outputStack.getCount() < maxStackSize)) {
+                if (outputStack.isEmpty() || (outputStack.getCount() < maxStackSize && areItemStackIdentical(itemStack, outputStack))) {
                     int amountOfItemsToRemove = (int) Math.min(maxStackSize - outputStack.getCount(), itemsStoredInside);
                     if (outputStack.isEmpty()) {
                         outputStack = GTUtility.copyAmount(amountOfItemsToRemove, itemStack);
@@ -165,11 +167,14 @@ public class MetaTileEntityQuantumChest extends MetaTileEntity implements ITiere
             if (isAutoOutputItems()) {
                 pushItemsIntoNearbyHandlers(currentOutputFacing);
             }
-            if (previousStack == null || !areItemStackIdentical(previousStack, itemStack)) {
-                writeCustomData(UPDATE_ITEM, buf -> buf.writeItemStack(itemStack));
+            if (previousStack != itemStack) {
+                if (previousStack == null || !areItemStackIdentical(previousStack, itemStack)) {
+                    writeCustomData(UPDATE_ITEM, buf -> buf.writeItemStack(itemStack));
+                }
                 previousStack = itemStack;
             }
-            if (previousStackSize != itemsStoredInside) {
+            if (previousStackSize != itemsStoredInside && (previousStackSize == 0 || itemsStoredInside == 0 ||
+                    getOffsetTimer() % ITEM_COUNT_SYNC_INTERVAL == 0)) {
                 writeCustomData(UPDATE_ITEM_COUNT, buf -> buf.writeLong(itemsStoredInside));
                 previousStackSize = itemsStoredInside;
             }
@@ -481,6 +486,9 @@ public class MetaTileEntityQuantumChest extends MetaTileEntity implements ITiere
         return new AxisAlignedBB(getPos());
     }
 
+    /**
+     * Exposes all items stored inside as a single slot, so inserting and extracting only changes the stored count
+     */
     private class QuantumChestItemHandler implements IItemHandler {
 
         @Override
@@ -491,35 +499,31 @@ public class MetaTileEntityQuantumChest extends MetaTileEntity implements ITiere
         @Nonnull
         @Override
         public ItemStack getStackInSlot(int slot) {
-            ItemStack itemStack = MetaTileEntityQuantumChest.this.itemStack;
-            long itemsStored = MetaTileEntityQuantumChest.this.itemsStoredInside;
-            if (itemStack.isEmpty() || itemsStored == 0L) {
+            if (itemStack.isEmpty() || itemsStoredInside == 0L) {
                 return ItemStack.EMPTY;
             }
-            ItemStack resultStack = itemStack.copy();
-            resultStack.setCount((int) itemsStored);
-            return resultStack;
+            return GTUtility.copyAmount((int) Math.min(itemsStoredInside, Integer.MAX_VALUE), itemStack);
         }
 
         @Override
         public int getSlotLimit(int slot) {
-            return (int) MetaTileEntityQuantumChest.this.maxStoredItems;
+            return (int) Math.min(maxStoredItems, Integer.MAX_VALUE);
         }
 
         @Nonnull
         @Override
         public ItemStack extractItem(int slot, int amount, boolean simulate) {
             int extractedAmount = (int) Math.min(amount, itemsStoredInside);
-            if (itemStack.isEmpty() || extractedAmount == 0) {
+            if (itemStack.isEmpty() || extractedAmount <= 0) {
                 return ItemStack.EMPTY;
             }
-            ItemStack extractedStack = itemStack.copy();
-            extractedStack.setCount(extractedAmount);
+            ItemStack extractedStack = GTUtility.copyAmount(extractedAmount, itemStack);
             if (!simulate) {
                 MetaTileEntityQuantumChest.this.itemsStoredInside -= extractedAmount;
                 if (itemsStoredInside == 0L) {
                     MetaTileEntityQuantumChest.this.itemStack = ItemStack.EMPTY;
                 }
+                markDirty();
             }
             return extractedStack;
         }
@@ -527,63 +531,35 @@ public class MetaTileEntityQuantumChest extends MetaTileEntity implements ITiere
         @Nonnull
         @Override
         public ItemStack insertItem(int slot, @Nonnull ItemStack stack, boolean simulate) {
-
             if (stack.isEmpty()) {
                 return ItemStack.EMPTY;
             }
-
-            if (itemsStoredInside > 0L &&
-                    !itemStack.isEmpty() &&
-                    !areItemStackIdentical(itemStack, stack)) {
-                return stack;
+            // the import and export slot may hold the item while nothing is stored inside
+            ItemStack storedStack = itemStack;
+            if (storedStack.isEmpty()) {
+                storedStack = exportItems.getStackInSlot(0);
             }
-
-            // The Quantum Chest automatically populates the export slot, so we need to check what is contained in it
-            ItemStack exportItems = getExportItems().getStackInSlot(0);
-
-            // Check if the item being inserted matches the item in the export slot
-            boolean insertMatching = areItemStackIdentical(stack, exportItems);
-
-            // If the item being inserted does not match the item in the export slot, insert into the input slot and do not virtualize
-            if (!insertMatching) {
-                return MetaTileEntityQuantumChest.this.importItems.insertItem(0, stack, simulate);
+            if (storedStack.isEmpty()) {
+                storedStack = importItems.getStackInSlot(0);
             }
-
-            int insertedAmount;
-            int amountInsertedIntoExport;
-
-            int spaceInExport = Math.abs(exportItems.getCount() - exportItems.getMaxStackSize());
-
-            // Attempt to insert into the export slot first
-            amountInsertedIntoExport = Math.min(spaceInExport, stack.getCount());
-
-            // If we had more Items than would fit into the export slot, virtualize the remainder
-            if (amountInsertedIntoExport < stack.getCount()) {
-                long amountLeftInChest = itemStack.isEmpty() ? maxStoredItems : maxStoredItems - itemsStoredInside;
-                insertedAmount = (int) Math.min(stack.getCount() - amountInsertedIntoExport, amountLeftInChest);
-
+            if (!storedStack.isEmpty() && !areItemStackIdentical(storedStack, stack)) {
+                return stack;
             }
-            // Return early, as we did not virtualize anything, as it all fit into the output slot
-            else {
-                return MetaTileEntityQuantumChest.this.exportItems.insertItem(0, stack, simulate);
+            if (!importItems.isItemValid(0, stack)) {
+                return stack;
             }
-
-            ItemStack remainingStack = ItemStack.EMPTY;
-
-            // If we are at the maximum that the chest can hold
-            if (stack.getCount() - amountInsertedIntoExport > insertedAmount) {
-                remainingStack = stack.copy();
-                remainingStack.setCount(stack.getCount() - insertedAmount);
+            int insertedAmount = (int) Math.min(stack.getCount(), maxStoredItems - itemsStoredInside);
+            if (insertedAmount <= 0) {
+                return stack;
             }
             if (!simulate) {
                 if (itemStack.isEmpty()) {
-                    MetaTileEntityQuantumChest.this.itemStack = stack.copy();
-                    MetaTileEntityQuantumChest.this.itemsStoredInside = insertedAmount;
-                } else {
-                    MetaTileEntityQuantumChest.this.itemsStoredInside += insertedAmount;
+                    MetaTileEntityQuantumChest.this.itemStack = GTUtility.copyAmount(1, stack);
                 }
+                MetaTileEntityQuantumChest.this.itemsStoredInside += insertedAmount;
+                markDirty();
             }
-            return remainingStack;
+            return insertedAmount == stack.getCount() ? ItemStack.EMPTY : GTUtility.copyAmount(stack.getCount() - insertedAmount, stack);
         }
     }
 
@@ -58,6 +58,9 @@ import static net.minecraftforge.fluids.capability.templates.FluidHandlerItemSta
 
 public class MetaTileEntityQuantumTank extends MetaTileEntity implements ITieredMetaTileEntity, IActiveOutputSide, IFastRenderMetaTileEntity {
 
+    // ticks between syncs of a changed fluid amount, changes of the fluid itself are synced immediately
+    private static final int FLUID_AMOUNT_SYNC_INTERVAL = 10;
+
     private final int tier;
     private final int maxFluidCapacity;
     protected FluidTank fluidTank;
@@ -108,13 +111,17 @@ public class MetaTileEntityQuantumTank extends MetaTileEntity implements ITiered
         super.update();
         EnumFacing currentOutputFacing = getOutputFacing();
         if (!getWorld().isRemote) {
-            fillContainerFromInternalTank();
-            fillInternalTankFromFluidContainer();
+            if (!importItems.getStackInSlot(0).isEmpty()) {
+                fillContainerFromInternalTank();
+                fillInternalTankFromFluidContainer();
+            }
             if (isAutoOutputFluids()) {
                 pushFluidsIntoNearbyHandlers(currentOutputFacing);
             }
-            if (previousFluid == null || !previousFluid.equals(fluidTank.getFluid()) || previousFluid.amount != fluidTank.getFluidAmount()) {
-                previousFluid = fluidTank.getFluid() == null ? null : fluidTank.getFluid().copy();
+            FluidStack currentFluid = fluidTank.getFluid();
+            if (currentFluid == null ? previousFluid != null : !currentFluid.isFluidStackIdentical(previousFluid) &&
+                    (!currentFluid.isFluidEqual(previousFluid) || getOffsetTimer() % FLUID_AMOUNT_SYNC_INTERVAL == 0)) {
+                previousFluid = currentFluid == null ? null : currentFluid.copy();
                 writeCustomData(UPDATE_FLUID, buf -> buf.writeCompoundTag(fluidTank.getFluid() == null ? null : fluidTank.getFluid().writeToNBT(new NBTTagCompound())));
             }
         }
@@ -4,6 +4,12 @@ import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
 import gregtech.api.unification.material.properties.WireProperties;
+import gregtech.api.util.GTProfiler;
+import gregtech.api.util.TaskScheduler;
+import gregtech.common.pipelike.cable.tile.TileEntityCable;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -16,24 +22,92 @@ public class EnergyNet extends PipeNet<WireProperties> {
     private long energyFluxPerSec;
     private long lastTime;
 
-    private final Map<BlockPos, List<RoutePath>> NET_DATA = new HashMap<>();
+    private final Map<BlockPos, EnergyRouteTree> NET_DATA = new HashMap<>();
+    // cables walked by any route tree, shared between all trees of this net
+    private final Long2IntMap cableIndices = new Long2IntOpenHashMap();
+    private final List<TileEntityCable> cables = new ArrayList<>();
+    // cables which had energy routed through them since the last flush
+    private final List<TileEntityCable> queuedCables = new ArrayList<>();
 
     protected EnergyNet(WorldPipeNet<WireProperties, EnergyNet> world) {
         super(world);
+        cableIndices.defaultReturnValue(-1);
     }
 
     public List<RoutePath> getNetData(BlockPos pipePos) {
-        List<RoutePath> data = NET_DATA.get(pipePos);
+        EnergyRouteTree data = NET_DATA.get(pipePos);
+        if (data != null && !data.updateEndpoints(getWorldData())) {
+            // the cables changed in a way the endpoint update could not handle, so walk again
+            clearNetData();
+            data = null;
+        }
         if (data == null) {
-            data = EnergyNetWalker.createNetData(getWorldData(), pipePos);
+            if (GTProfiler.isRunning()) {
+                GTProfiler.recordPipeNetRebuild(getClass(), getWorldData().provider.getDimension());
+            }
+            data = EnergyNetWalker.createNetData(this, getWorldData(), pipePos);
             if (data == null) {
                 // walker failed, don't cache so it tries again on next insertion
                 return Collections.emptyList();
             }
-            data.sort(Comparator.comparingInt(RoutePath::getDistance));
             NET_DATA.put(pipePos, data);
         }
-        return data;
+        return data.getRoutes();
+    }
+
+    /**
+     * @return the index of the cable, used by {@link EnergyRouteTree}s to refer to it
+     */
+    int indexCable(TileEntityCable cable) {
+        long pos = cable.getPipePos().toLong();
+        int index = cableIndices.get(pos);
+        if (index == -1) {
+            index = cables.size();
+            cables.add(cable);
+            cableIndices.put(pos, index);
+        } else if (cables.get(index) != cable) {
+            // the tile entity was replaced
+            cables.set(index, cable);
+        }
+        return index;
+    }
+
+    /**
+     * @return the index of the cable at the position, or -1 if no route tree walked it
+     */
+    int getCableIndex(long pos) {
+        return cableIndices.get(pos);
+    }
+
+    TileEntityCable getCable(int index) {
+        return cables.get(index);
+    }
+
+    /**
+     * Queues the amperage bookkeeping of a cable, which is applied to all cables at once at the start of the next tick,
+     * while the world time still matches the tick the energy was transferred in
+     */
+    void queueAmperage(TileEntityCable cable, long amps, long voltage) {
+        if (cable.queueAmperage(amps, voltage)) {
+            if (queuedCables.isEmpty()) {
+                TaskScheduler.scheduleTask(getWorldData(), this::flushQueuedAmperage);
+            }
+            queuedCables.add(cable);
+        }
+    }
+
+    private boolean flushQueuedAmperage() {
+        for (TileEntityCable cable : queuedCables) {
+            cable.flushQueuedAmperage();
+        }
+        queuedCables.clear();
+        return false;
+    }
+
+    private void clearNetData() {
+        NET_DATA.clear();
+        cableIndices.clear();
+        cables.clear();
     }
 
     public long getEnergyFluxPerSec() {
@@ -56,19 +130,29 @@ public class EnergyNet extends PipeNet<WireProperties> {
 
     @Override
     public void onNeighbourUpdate(BlockPos fromPos) {
-        NET_DATA.clear();
+        if (NET_DATA.isEmpty()) return;
+        long pos = fromPos.toLong();
+        if (cableIndices.containsKey(pos)) {
+            // a walked cable changed, which can change every route
+            clearNetData();
+            return;
+        }
+        // only the routes into the changed block can be affected, so re-check them lazily
+        for (EnergyRouteTree data : NET_DATA.values()) {
+            data.markEndpointDirty(pos);
+        }
     }
 
     @Override
     public void onPipeConnectionsUpdate() {
-        NET_DATA.clear();
+        clearNetData();
     }
 
     @Override
-    protected void transferNodeData(Map<BlockPos, Node<WireProperties>> transferredNodes, PipeNet<WireProperties> parentNet) {
+    protected void transferNodeData(Long2ObjectMap<Node<WireProperties>> transferredNodes, PipeNet<WireProperties> parentNet) {
         super.transferNodeData(transferredNodes, parentNet);
-        NET_DATA.clear();
-        ((EnergyNet) parentNet).NET_DATA.clear();
+        clearNetData();
+        ((EnergyNet) parentNet).clearNetData();
     }
 
     @Override
@@ -76,24 +76,27 @@ public class EnergyNetHandler implements IEnergyContainer {
             if (!dest.inputsEnergy(facing) || dest.getEnergyCanBeInserted() <= 0) continue;
 
             long pathVoltage = voltage - path.getMaxLoss();
-            boolean cableBroken = false;
-            for (TileEntityCable cable : path.getPath()) {
-                if (cable.getMaxVoltage() < voltage) {
-                    int heat = (int) (Math.log(GTUtility.getTierByVoltage(voltage) - GTUtility.getTierByVoltage(cable.getMaxVoltage())) * 45 + 36.5);
-                    cable.applyHeat(heat);
-
-                    cableBroken = cable.isInvalid();
-                    if (cableBroken) {
-                        // a cable burned away (or insulation melted)
-                        break;
+            // only walk the path if the voltage is too high for at least one of its cables
+            if (voltage > path.getMaxVoltage()) {
+                boolean cableBroken = false;
+                for (TileEntityCable cable : path.getPath()) {
+                    if (cable.getMaxVoltage() < voltage) {
+                        int heat = (int) (Math.log(GTUtility.getTierByVoltage(voltage) - GTUtility.getTierByVoltage(cable.getMaxVoltage())) * 45 + 36.5);
+                        cable.applyHeat(heat);
+
+                        cableBroken = cable.isInvalid();
+                        if (cableBroken) {
+                            // a cable burned away (or insulation melted)
+                            break;
+                        }
+
+                        // limit transfer to cables max and void rest
+                        pathVoltage = Math.min(cable.getMaxVoltage(), pathVoltage);
                     }
-
-                    // limit transfer to cables max and void rest
-                    pathVoltage = Math.min(cable.getMaxVoltage(), pathVoltage);
                 }
-            }
 
-            if (cableBroken) continue;
+                if (cableBroken) continue;
+            }
 
             transfer = true;
             long amps = dest.acceptEnergyFromNetwork(facing, pathVoltage, amperage - amperesUsed);
@@ -107,7 +110,7 @@ public class EnergyNetHandler implements IEnergyContainer {
                 if (voltageTraveled <= 0) break;
 
                 if (!cable.isInvalid()) {
-                    cable.incrementAmperage(amps, voltageTraveled);
+                    net.queueAmperage(cable, amps, voltageTraveled);
                 }
             }
 
@@ -12,37 +12,40 @@ import net.minecraft.world.World;
 import org.apache.commons.lang3.ArrayUtils;
 
 import javax.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.List;
 
 public class EnergyNetWalker extends PipeNetWalker {
 
-    public static List<RoutePath> createNetData(World world, BlockPos sourcePipe) {
-        EnergyNetWalker walker = new EnergyNetWalker(world, sourcePipe, 1, new ArrayList<>());
+    public static EnergyRouteTree createNetData(EnergyNet net, World world, BlockPos sourcePipe) {
+        EnergyNetWalker walker = new EnergyNetWalker(world, sourcePipe, 1, new EnergyRouteTree(net));
         walker.traversePipeNet();
-        return walker.isFailed() ? null : walker.routes;
+        if (walker.isFailed()) return null;
+        walker.routeTree.sortRoutes();
+        return walker.routeTree;
     }
 
-    private final List<RoutePath> routes;
+    private final EnergyRouteTree routeTree;
     private TileEntityCable[] pipes = {};
     private int loss;
+    private int visit = -1;
 
-    protected EnergyNetWalker(World world, BlockPos sourcePipe, int walkedBlocks, List<RoutePath> routes) {
+    protected EnergyNetWalker(World world, BlockPos sourcePipe, int walkedBlocks, EnergyRouteTree routeTree) {
         super(world, sourcePipe, walkedBlocks);
-        this.routes = routes;
+        this.routeTree = routeTree;
     }
 
     @Override
     protected PipeNetWalker createSubWalker(World world, EnumFacing facingToNextPos, BlockPos nextPos, int walkedBlocks) {
-        EnergyNetWalker walker = new EnergyNetWalker(world, nextPos, walkedBlocks, routes);
+        EnergyNetWalker walker = new EnergyNetWalker(world, nextPos, walkedBlocks, routeTree);
         walker.loss = loss;
         walker.pipes = pipes;
+        walker.visit = visit;
         return walker;
     }
 
     @Override
     protected void checkPipe(IPipeTile<?, ?> pipeTile, BlockPos pos) {
         pipes = ArrayUtils.add(pipes, (TileEntityCable) pipeTile);
+        visit = routeTree.visit((TileEntityCable) pipeTile, visit);
         loss += ((TileEntityCable) pipeTile).getNodeData().getLossPerBlock();
     }
 
@@ -51,7 +54,7 @@ public class EnergyNetWalker extends PipeNetWalker {
         if (neighbourTile != null) {
             IEnergyContainer container = neighbourTile.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, faceToNeighbour.getOpposite());
             if (container != null) {
-                routes.add(new RoutePath(new BlockPos(pipePos), faceToNeighbour, pipes, getWalkedBlocks(), loss));
+                routeTree.addRoute(new RoutePath(new BlockPos(pipePos), faceToNeighbour, pipes, getWalkedBlocks(), loss), visit);
             }
         }
     }
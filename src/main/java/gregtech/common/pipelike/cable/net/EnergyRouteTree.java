@@ -0,0 +1,222 @@
+package gregtech.common.pipelike.cable.net;
+
+import gregtech.api.capability.GregtechCapabilities;
+import gregtech.api.capability.IEnergyContainer;
+import gregtech.api.pipenet.tile.IPipeTile;
+import gregtech.common.pipelike.cable.tile.TileEntityCable;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The routes from a single source cable, together with the tree of cable visits the {@link EnergyNetWalker} made to find them.
+ * <p>
+ * Keeping the tree allows the routes into a single changed endpoint to be recomputed without walking the net again.
+ * The resulting routes, paths, losses and their order are identical to the ones of a new walk,
+ * as long as the cables of the net did not change.
+ * <p>
+ * A cable can be visited more than once when walkers reach it in the same step, and every visit produces its own routes.
+ */
+public class EnergyRouteTree {
+
+    private static final int NONE = -1;
+
+    private final EnergyNet net;
+    private final List<RoutePath> routes = new ArrayList<>();
+    private final Reference2IntMap<RoutePath> routeVisits = new Reference2IntOpenHashMap<>();
+    private final LongSet dirtyEndpoints = new LongOpenHashSet();
+
+    // indexed by visit
+    private int[] visitCables = new int[16];
+    private int[] visitParents = new int[16];
+    private int[] nextVisits = new int[16];
+    private int visitCount = 0;
+
+    // indexed by the cable index of the net
+    private int[] firstVisits = new int[0];
+
+    public EnergyRouteTree(@Nonnull EnergyNet net) {
+        this.net = net;
+    }
+
+    @Nonnull
+    public List<RoutePath> getRoutes() {
+        return routes;
+    }
+
+    /**
+     * Called by the walker for every cable it walks, in walking order
+     *
+     * @param cable       the walked cable
+     * @param parentVisit the visit of the cable it was walked from, or -1 for the source cable
+     * @return the visit of the cable
+     */
+    int visit(@Nonnull TileEntityCable cable, int parentVisit) {
+        int cableIndex = net.indexCable(cable);
+        if (cableIndex >= firstVisits.length) {
+            int oldLength = firstVisits.length;
+            this.firstVisits = Arrays.copyOf(firstVisits, Math.max(cableIndex + 1, oldLength * 2));
+            Arrays.fill(firstVisits, oldLength, firstVisits.length, NONE);
+        }
+        if (visitCount == visitCables.length) {
+            this.visitCables = Arrays.copyOf(visitCables, visitCount * 2);
+            this.visitParents = Arrays.copyOf(visitParents, visitCount * 2);
+            this.nextVisits = Arrays.copyOf(nextVisits, visitCount * 2);
+        }
+        int visit = visitCount++;
+        visitCables[visit] = cableIndex;
+        visitParents[visit] = parentVisit;
+        nextVisits[visit] = firstVisits[cableIndex];
+        firstVisits[cableIndex] = visit;
+        return visit;
+    }
+
+    /**
+     * Called by the walker for every route it finds, in walking order
+     *
+     * @param routePath the found route
+     * @param visit     the visit of the cable the route starts from
+     */
+    void addRoute(@Nonnull RoutePath routePath, int visit) {
+        routes.add(routePath);
+        routeVisits.put(routePath, visit);
+    }
+
+    /**
+     * Called by the walker when it is done
+     */
+    void sortRoutes() {
+        routes.sort(this::compareRoutes);
+    }
+
+    /**
+     * Marks an endpoint next to the net to be re-checked on the next access
+     */
+    void markEndpointDirty(long endpointPos) {
+        dirtyEndpoints.add(endpointPos);
+    }
+
+    /**
+     * Applies all pending endpoint changes
+     *
+     * @return false if the tree is invalid and the net has to be walked again
+     */
+    boolean updateEndpoints(@Nonnull World world) {
+        if (dirtyEndpoints.isEmpty()) return true;
+        BlockPos.MutableBlockPos endpoint = new BlockPos.MutableBlockPos();
+        LongIterator iterator = dirtyEndpoints.iterator();
+        while (iterator.hasNext()) {
+            endpoint.setPos(BlockPos.fromLong(iterator.nextLong()));
+            if (!updateEndpoint(world, endpoint)) return false;
+        }
+        dirtyEndpoints.clear();
+        return true;
+    }
+
+    /**
+     * Re-checks the routes into a single endpoint, mirroring the neighbour checks of {@link EnergyNetWalker}
+     *
+     * @return false if the tree is invalid and the net has to be walked again
+     */
+    private boolean updateEndpoint(@Nonnull World world, @Nonnull BlockPos endpoint) {
+        routes.removeIf(path -> {
+            if (isRouteTo(path, endpoint)) {
+                routeVisits.removeInt(path);
+                return true;
+            }
+            return false;
+        });
+
+        TileEntity tile = world.getTileEntity(endpoint);
+        BlockPos.MutableBlockPos cablePos = new BlockPos.MutableBlockPos();
+        for (EnumFacing facing : EnumFacing.VALUES) {
+            cablePos.setPos(endpoint).move(facing);
+            int cableIndex = net.getCableIndex(cablePos.toLong());
+            if (cableIndex < 0 || cableIndex >= firstVisits.length || firstVisits[cableIndex] == NONE) continue;
+
+            TileEntityCable cable = net.getCable(cableIndex);
+            if (cable.isInvalid()) return false;
+
+            EnumFacing faceToEndpoint = facing.getOpposite();
+            if (!cable.isConnected(faceToEndpoint)) continue;
+
+            if (tile instanceof IPipeTile) {
+                IPipeTile<?, ?> otherPipe = (IPipeTile<?, ?>) tile;
+                if (!otherPipe.isConnected(facing) || otherPipe.isFaceBlocked(facing)) continue;
+                // a connected cable would be part of this net, so the net itself changed
+                if (otherPipe instanceof TileEntityCable) return false;
+            }
+
+            if (tile == null) continue;
+            IEnergyContainer container = tile.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, facing);
+            if (container == null) continue;
+
+            for (int visit = firstVisits[cableIndex]; visit != NONE; visit = nextVisits[visit]) {
+                insertRoute(createRoute(visit, faceToEndpoint), visit);
+            }
+        }
+        return true;
+    }
+
+    private static boolean isRouteTo(@Nonnull RoutePath path, @Nonnull BlockPos endpoint) {
+        BlockPos pipePos = path.getPipePos();
+        EnumFacing facing = path.getFaceToHandler();
+        return pipePos.getX() + facing.getXOffset() == endpoint.getX() &&
+                pipePos.getY() + facing.getYOffset() == endpoint.getY() &&
+                pipePos.getZ() + facing.getZOffset() == endpoint.getZ();
+    }
+
+    @Nonnull
+    private RoutePath createRoute(int visit, @Nonnull EnumFacing faceToHandler) {
+        int length = 0;
+        for (int i = visit; i != NONE; i = visitParents[i]) {
+            length++;
+        }
+        TileEntityCable[] path = new TileEntityCable[length];
+        long loss = 0;
+        int i = visit;
+        for (int j = length - 1; j >= 0; j--) {
+            path[j] = net.getCable(visitCables[i]);
+            loss += path[j].getNodeData().getLossPerBlock();
+            i = visitParents[i];
+        }
+        return new RoutePath(path[length - 1].getPipePos(), faceToHandler, path, length, loss);
+    }
+
+    private void insertRoute(@Nonnull RoutePath routePath, int visit) {
+        routeVisits.put(routePath, visit);
+        int low = 0;
+        int high = routes.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareRoutes(routes.get(mid), routePath) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        routes.add(low, routePath);
+    }
+
+    /**
+     * Orders routes by distance, then in the order the walker finds them
+     */
+    private int compareRoutes(@Nonnull RoutePath first, @Nonnull RoutePath second) {
+        int result = Integer.compare(first.getDistance(), second.getDistance());
+        if (result != 0) return result;
+        result = Integer.compare(routeVisits.getInt(first), routeVisits.getInt(second));
+        if (result != 0) return result;
+        return Integer.compare(first.getFaceToHandler().getIndex(), second.getFaceToHandler().getIndex());
+    }
+}
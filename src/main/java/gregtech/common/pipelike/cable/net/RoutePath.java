@@ -7,20 +7,34 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 
 public class RoutePath {
     private final BlockPos destPipePos;
     private final EnumFacing destFacing;
+    private final BlockPos handlerPos;
     private final int distance;
     private final TileEntityCable[] path;
     private final long maxLoss;
+    private final long maxVoltage;
+
+    // the resolved handler stays valid until its tile entity is removed or its chunk unloads
+    private TileEntity cachedTile;
+    private Chunk cachedChunk;
+    private IEnergyContainer cachedHandler;
 
     public RoutePath(BlockPos destPipePos, EnumFacing destFacing, TileEntityCable[] path, int distance, long maxLoss) {
         this.destPipePos = destPipePos;
         this.destFacing = destFacing;
+        this.handlerPos = destPipePos.offset(destFacing);
         this.path = path;
         this.distance = distance;
         this.maxLoss = maxLoss;
+        long maxVoltage = Long.MAX_VALUE;
+        for (TileEntityCable cable : path) {
+            maxVoltage = Math.min(maxVoltage, cable.getMaxVoltage());
+        }
+        this.maxVoltage = maxVoltage;
     }
 
     public int getDistance() {
@@ -31,6 +45,13 @@ public class RoutePath {
         return maxLoss;
     }
 
+    /**
+     * @return the highest voltage every cable of this path can carry
+     */
+    public long getMaxVoltage() {
+        return maxVoltage;
+    }
+
     public TileEntityCable[] getPath() {
         return path;
     }
@@ -44,14 +65,26 @@ public class RoutePath {
     }
 
     public BlockPos getHandlerPos() {
-        return destPipePos.offset(destFacing);
+        return handlerPos;
     }
 
     public IEnergyContainer getHandler(World world) {
-        TileEntity tile = world.getTileEntity(getHandlerPos());
-        if (tile != null) {
-            return tile.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, destFacing.getOpposite());
+        if (cachedTile != null) {
+            if (!cachedTile.isInvalid() && cachedChunk.isLoaded()) {
+                return cachedHandler;
+            }
+            this.cachedTile = null;
+            this.cachedChunk = null;
+            this.cachedHandler = null;
+        }
+        TileEntity tile = world.getTileEntity(handlerPos);
+        if (tile == null) return null;
+        IEnergyContainer handler = tile.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, destFacing.getOpposite());
+        if (handler != null) {
+            this.cachedTile = tile;
+            this.cachedChunk = world.getChunk(handlerPos);
+            this.cachedHandler = handler;
         }
-        return null;
+        return handler;
     }
 }
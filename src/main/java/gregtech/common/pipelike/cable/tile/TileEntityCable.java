@@ -56,6 +56,11 @@ public class TileEntityCable extends TileEntityMaterialPipeBase<Insulation, Wire
     private int heatQueue;
     private int temperature = getDefaultTemp();
     private boolean isTicking = false;
+    // energy routed through this cable in the current tick, applied in one batch by the EnergyNet
+    private long queuedAmperage;
+    private long queuedVoltage;
+    private long queuedMaxVoltage;
+    private int queuedHeat;
 
     @Override
     public Class<Insulation> getPipeTypeClass() {
@@ -95,24 +100,42 @@ public class TileEntityCable extends TileEntityMaterialPipeBase<Insulation, Wire
     }
 
     /**
-     * Should only be called internally
+     * Should only be called internally. Records energy routed through this cable, to be applied by {@link #flushQueuedAmperage()}
      *
-     * @return if the cable should be destroyed
+     * @return if nothing was queued since the last flush
      */
-    public boolean incrementAmperage(long amps, long voltage) {
-        if (voltage > maxVoltageCounter.get(world)) {
-            maxVoltageCounter.set(world, voltage);
+    public boolean queueAmperage(long amps, long voltage) {
+        boolean first = queuedAmperage == 0;
+        queuedAmperage += amps;
+        queuedVoltage += voltage;
+        if (voltage > queuedMaxVoltage) {
+            queuedMaxVoltage = voltage;
         }
-        averageVoltageCounter.increment(world, voltage);
-        averageAmperageCounter.increment(world, amps);
 
-        int dif = (int) (averageAmperageCounter.getLast(world) - getMaxAmperage());
+        int dif = (int) (queuedAmperage - getMaxAmperage());
         if (dif > 0) {
-            applyHeat(dif * 40);
-            return true;
+            queuedHeat += dif * 40;
         }
+        return first;
+    }
 
-        return false;
+    /**
+     * Should only be called internally, before the world time advances past the tick the energy was queued in
+     */
+    public void flushQueuedAmperage() {
+        if (queuedMaxVoltage > maxVoltageCounter.get(world)) {
+            maxVoltageCounter.set(world, queuedMaxVoltage);
+        }
+        averageVoltageCounter.increment(world, queuedVoltage);
+        averageAmperageCounter.increment(world, queuedAmperage);
+
+        if (queuedHeat > 0 && !isInvalid()) {
+            applyHeat(queuedHeat);
+        }
+        this.queuedAmperage = 0;
+        this.queuedVoltage = 0;
+        this.queuedMaxVoltage = 0;
+        this.queuedHeat = 0;
     }
 
     public void applyHeat(int amount) {
@@ -0,0 +1,71 @@
+package gregtech.common.pipelike.fluidpipe.net;
+
+import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
+import gregtech.api.pipenet.PipeNetWalker;
+import gregtech.api.pipenet.tile.IPipeTile;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipeTickable;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import org.apache.commons.lang3.ArrayUtils;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Finds all fluid handlers reachable from a source pipe.
+ * <p>
+ * Covers between two pipes stop the walk, the pipe behind the cover becomes a handler itself,
+ * so the cover acts on the fluid the same way it does with per-pipe distribution.
+ */
+public class FluidNetWalker extends PipeNetWalker {
+
+    public static List<FluidRoutePath> createNetData(World world, BlockPos sourcePipe) {
+        FluidNetWalker walker = new FluidNetWalker(world, sourcePipe, 1, new ArrayList<>());
+        walker.traversePipeNet();
+        if (walker.isFailed()) return null;
+        walker.routes.sort(Comparator.comparingInt(FluidRoutePath::getDistance));
+        return walker.routes;
+    }
+
+    private final List<FluidRoutePath> routes;
+    private TileEntityFluidPipeTickable[] pipes = {};
+
+    protected FluidNetWalker(World world, BlockPos sourcePipe, int walkedBlocks, List<FluidRoutePath> routes) {
+        super(world, sourcePipe, walkedBlocks);
+        this.routes = routes;
+    }
+
+    @Override
+    protected PipeNetWalker createSubWalker(World world, EnumFacing facingToNextPos, BlockPos nextPos, int walkedBlocks) {
+        FluidNetWalker walker = new FluidNetWalker(world, nextPos, walkedBlocks, routes);
+        walker.pipes = pipes;
+        return walker;
+    }
+
+    @Override
+    protected void checkPipe(IPipeTile<?, ?> pipeTile, BlockPos pos) {
+        pipes = ArrayUtils.add(pipes, (TileEntityFluidPipeTickable) pipeTile);
+    }
+
+    @Override
+    protected void checkNeighbour(IPipeTile<?, ?> pipeTile, BlockPos pipePos, EnumFacing faceToNeighbour, @Nullable TileEntity neighbourTile) {
+        if (neighbourTile == null) return;
+        // covers of meta tile entities can hide their fluid handler without notifying neighbours, so always keep a route to them
+        if (neighbourTile instanceof IGregTechTileEntity ||
+                neighbourTile.hasCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, faceToNeighbour.getOpposite())) {
+            routes.add(new FluidRoutePath(new BlockPos(pipePos), faceToNeighbour, pipes, getWalkedBlocks()));
+        }
+    }
+
+    @Override
+    protected boolean isValidPipe(IPipeTile<?, ?> currentPipe, IPipeTile<?, ?> neighbourPipe, BlockPos pipePos, EnumFacing faceToNeighbour) {
+        return neighbourPipe instanceof TileEntityFluidPipeTickable &&
+                currentPipe.getCoverableImplementation().getCoverAtSide(faceToNeighbour) == null &&
+                neighbourPipe.getCoverableImplementation().getCoverAtSide(faceToNeighbour.getOpposite()) == null;
+    }
+}
@@ -1,16 +1,183 @@
 package gregtech.common.pipelike.fluidpipe.net;
 
+import gregtech.api.cover.CoverBehavior;
+import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
 import gregtech.api.unification.material.properties.FluidPipeProperties;
+import gregtech.api.util.GTProfiler;
+import gregtech.common.covers.CoverPump;
+import gregtech.common.covers.ManualImportExportMode;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipeTickable;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.ITickable;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler;
 
-public class FluidPipeNet extends PipeNet<FluidPipeProperties> {
+import java.util.*;
+
+/**
+ * With network fluid transport enabled, the net moves the fluid of all its pipes once per update,
+ * straight from the pipe it was inserted into to the nearest handlers.
+ * The pipes in between never hold the fluid, but still limit how much can pass through them and get damaged by it.
+ */
+public class FluidPipeNet extends PipeNet<FluidPipeProperties> implements ITickable {
+
+    private final Map<BlockPos, List<FluidRoutePath>> NET_DATA = new HashMap<>();
+    // pipes holding fluid, they add themselves again every update while they still do
+    private final Set<TileEntityFluidPipeTickable> sourcePipes = new ReferenceOpenHashSet<>();
+    // the amount of fluid which passed through a pipe during the current update
+    private final Reference2IntMap<TileEntityFluidPipeTickable> transferredAmounts = new Reference2IntOpenHashMap<>();
 
     public FluidPipeNet(WorldPipeNet<FluidPipeProperties, FluidPipeNet> world) {
         super(world);
     }
 
+    public List<FluidRoutePath> getNetData(BlockPos pipePos) {
+        List<FluidRoutePath> data = NET_DATA.get(pipePos);
+        if (data == null) {
+            if (GTProfiler.isRunning()) {
+                GTProfiler.recordPipeNetRebuild(getClass(), getWorldData().provider.getDimension());
+            }
+            data = FluidNetWalker.createNetData(getWorldData(), pipePos);
+            if (data == null) {
+                // walker failed, don't cache so it tries again on next update
+                return Collections.emptyList();
+            }
+            NET_DATA.put(pipePos, data);
+        }
+        return data;
+    }
+
+    public void addSourcePipe(TileEntityFluidPipeTickable pipe) {
+        sourcePipes.add(pipe);
+    }
+
+    @Override
+    public void update() {
+        if (sourcePipes.isEmpty()) return;
+        TileEntityFluidPipeTickable[] pipes = sourcePipes.toArray(new TileEntityFluidPipeTickable[0]);
+        sourcePipes.clear();
+        transferredAmounts.clear();
+        for (TileEntityFluidPipeTickable pipe : pipes) {
+            // destroyed pipes can split or remove this net while moving fluid
+            if (!isValid()) break;
+            if (pipe.isInvalid() || pipe.getFluidPipeNet() != this) continue;
+            distributeFluid(pipe);
+        }
+    }
+
+    private void distributeFluid(TileEntityFluidPipeTickable pipe) {
+        List<FluidRoutePath> routes = getNetData(pipe.getPipePos());
+        for (FluidTank tank : pipe.getFluidTanks()) {
+            for (FluidRoutePath route : routes) {
+                if (tank.getFluidAmount() <= 0 || pipe.isInvalid()) break;
+                transferFluid(pipe, tank, route);
+            }
+        }
+        pipe.lastReceivedFrom = 0;
+    }
+
+    private void transferFluid(TileEntityFluidPipeTickable sourcePipe, FluidTank tank, FluidRoutePath route) {
+        TileEntityFluidPipeTickable[] path = route.getPath();
+        TileEntityFluidPipeTickable pipe = path[path.length - 1];
+        EnumFacing facing = route.getFaceToHandler();
+        if (pipe == sourcePipe && (sourcePipe.lastReceivedFrom & (1 << facing.getIndex())) != 0) {
+            // don't send fluid back into the handler which just inserted it
+            return;
+        }
+
+        int amount = tank.getFluidAmount();
+        for (TileEntityFluidPipeTickable pathPipe : path) {
+            if (pathPipe.isInvalid()) return;
+            amount = Math.min(amount, getThroughputPerUpdate(pathPipe) - transferredAmounts.getInt(pathPipe));
+        }
+        if (amount <= 0) return;
+
+        IFluidHandler handler = route.getHandler(getWorldData());
+        if (handler == null) return;
+
+        IFluidHandler pipeTank = tank;
+        CoverBehavior cover = pipe.getCoverableImplementation().getCoverAtSide(facing);
+        // pipeTank should only be determined by the cover attached to the actual pipe
+        if (cover != null) {
+            IFluidHandler capability = cover.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, pipeTank);
+            // Shutter covers return null capability when active
+            if (capability == null) return;
+            pipeTank = capability;
+        } else {
+            cover = route.getHandlerCover(getWorldData());
+        }
+
+        if (cover instanceof CoverPump) {
+            int pipeThroughput = pipe.getNodeData().getThroughput() * 20;
+            if (((CoverPump) cover).getTransferRate() > pipeThroughput) {
+                ((CoverPump) cover).setTransferRate(pipeThroughput);
+            }
+            if (((CoverPump) cover).getManualImportExportMode() == ManualImportExportMode.DISABLED) return;
+        }
+
+        FluidStack stack = tank.getFluid().copy();
+        stack.amount = amount;
+        FluidStack drainable = pipeTank.drain(stack.copy(), false);
+        if (drainable == null || drainable.amount <= 0) return;
+        stack.amount = Math.min(amount, drainable.amount);
+
+        int filled = handler.fill(stack.copy(), false);
+        if (filled <= 0) return;
+        stack.amount = Math.min(stack.amount, filled);
+
+        // the fluid passes every pipe after the source, which can void parts of it or break
+        int moved = stack.amount;
+        for (int i = 1; i < path.length && stack.amount > 0; i++) {
+            if (path[i].isInvalid()) {
+                stack.amount = 0;
+                break;
+            }
+            path[i].checkAndDestroy(stack);
+        }
+        int voided = moved - stack.amount;
+        int inserted = stack.amount > 0 ? handler.fill(stack, true) : 0;
+        if (inserted + voided > 0) {
+            pipeTank.drain(inserted + voided, true);
+            for (TileEntityFluidPipeTickable pathPipe : path) {
+                transferredAmounts.put(pathPipe, transferredAmounts.getInt(pathPipe) + inserted + voided);
+            }
+        }
+    }
+
+    /**
+     * @return the most fluid a pipe moves per update, the same amount it does with per-pipe distribution
+     */
+    private static int getThroughputPerUpdate(TileEntityFluidPipeTickable pipe) {
+        return pipe.getCapacityPerTank() / 2 * pipe.getNodeData().getTanks();
+    }
+
+    @Override
+    public void onNeighbourUpdate(BlockPos fromPos) {
+        NET_DATA.clear();
+    }
+
+    @Override
+    public void onPipeConnectionsUpdate() {
+        NET_DATA.clear();
+    }
+
+    @Override
+    protected void transferNodeData(Long2ObjectMap<Node<FluidPipeProperties>> transferredNodes, PipeNet<FluidPipeProperties> parentNet) {
+        super.transferNodeData(transferredNodes, parentNet);
+        NET_DATA.clear();
+        ((FluidPipeNet) parentNet).NET_DATA.clear();
+    }
+
     @Override
     protected void writeNodeData(FluidPipeProperties nodeData, NBTTagCompound tagCompound) {
         tagCompound.setInteger("max_temperature", nodeData.getMaxFluidTemperature());
@@ -0,0 +1,95 @@
+package gregtech.common.pipelike.fluidpipe.net;
+
+import gregtech.api.cover.CoverBehavior;
+import gregtech.api.metatileentity.MetaTileEntity;
+import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipeTickable;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+
+import javax.annotation.Nullable;
+
+public class FluidRoutePath {
+
+    private final BlockPos destPipePos;
+    private final EnumFacing destFacing;
+    private final BlockPos handlerPos;
+    private final int distance;
+    private final TileEntityFluidPipeTickable[] path;
+
+    // the tile stays valid until it is removed or its chunk unloads,
+    // the capability itself is queried every time since covers on the handler can change it
+    private TileEntity cachedTile;
+    private Chunk cachedChunk;
+
+    public FluidRoutePath(BlockPos destPipePos, EnumFacing destFacing, TileEntityFluidPipeTickable[] path, int distance) {
+        this.destPipePos = destPipePos;
+        this.destFacing = destFacing;
+        this.handlerPos = destPipePos.offset(destFacing);
+        this.path = path;
+        this.distance = distance;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    /**
+     * @return the pipes from the source pipe to the pipe next to the handler, both included
+     */
+    public TileEntityFluidPipeTickable[] getPath() {
+        return path;
+    }
+
+    public BlockPos getPipePos() {
+        return destPipePos;
+    }
+
+    public EnumFacing getFaceToHandler() {
+        return destFacing;
+    }
+
+    public BlockPos getHandlerPos() {
+        return handlerPos;
+    }
+
+    @Nullable
+    public IFluidHandler getHandler(World world) {
+        TileEntity tile = getHandlerTile(world);
+        if (tile == null) return null;
+        return tile.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, destFacing.getOpposite());
+    }
+
+    /**
+     * @return the cover of the handler facing the pipe, if the handler is a meta tile entity
+     */
+    @Nullable
+    public CoverBehavior getHandlerCover(World world) {
+        TileEntity tile = getHandlerTile(world);
+        if (!(tile instanceof IGregTechTileEntity)) return null;
+        MetaTileEntity metaTileEntity = ((IGregTechTileEntity) tile).getMetaTileEntity();
+        return metaTileEntity == null ? null : metaTileEntity.getCoverAtSide(destFacing.getOpposite());
+    }
+
+    @Nullable
+    private TileEntity getHandlerTile(World world) {
+        if (cachedTile != null) {
+            if (!cachedTile.isInvalid() && cachedChunk.isLoaded()) {
+                return cachedTile;
+            }
+            this.cachedTile = null;
+            this.cachedChunk = null;
+        }
+        TileEntity tile = world.getTileEntity(handlerPos);
+        if (tile != null) {
+            this.cachedTile = tile;
+            this.cachedChunk = world.getChunk(handlerPos);
+        }
+        return tile;
+    }
+}
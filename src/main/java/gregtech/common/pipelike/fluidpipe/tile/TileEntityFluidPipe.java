@@ -50,6 +50,16 @@ public class TileEntityFluidPipe extends TileEntityMaterialPipeBase<FluidPipeTyp
         return currentPipeNet;
     }
 
+    @Override
+    public void markAsDirty() {
+        super.markAsDirty();
+        // covers on this pipe changed, which can split or join the routes through it
+        FluidPipeNet net = getFluidPipeNet();
+        if (net != null) {
+            net.onPipeConnectionsUpdate();
+        }
+    }
+
     public static void setNeighboursToFire(World world, BlockPos selfPos) {
         for (EnumFacing side : EnumFacing.VALUES) {
             if (!GTValues.RNG.nextBoolean()) continue;
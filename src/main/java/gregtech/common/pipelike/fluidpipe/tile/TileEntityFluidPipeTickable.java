@@ -10,7 +10,9 @@ import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.util.EntityDamageUtil;
 import gregtech.api.util.GTUtility;
 import gregtech.common.covers.CoverPump;
+import gregtech.common.ConfigHolder;
 import gregtech.common.covers.ManualImportExportMode;
+import gregtech.common.pipelike.fluidpipe.net.FluidPipeNet;
 import gregtech.common.pipelike.fluidpipe.net.PipeTankList;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.init.Blocks;
@@ -71,6 +73,17 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
         timer++;
         getCoverableImplementation().update();
         if (!world.isRemote && getOffsetTimer() % FREQUENCY == 0) {
+            if (ConfigHolder.machines.networkFluidTransport) {
+                // the net distributes the fluid of all its pipes at once
+                if (hasContainedFluid()) {
+                    FluidPipeNet net = getFluidPipeNet();
+                    if (net != null) {
+                        net.addSourcePipe(this);
+                    }
+                }
+                return;
+            }
+
             lastReceivedFrom &= 63;
             if (lastReceivedFrom == 63) {
                 lastReceivedFrom = 0;
@@ -98,6 +111,21 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
         }
     }
 
+    private boolean hasContainedFluid() {
+        boolean hasFluid = false;
+        for (FluidTank tank : getFluidTanks()) {
+            FluidStack fluid = tank.getFluid();
+            if (fluid == null)
+                continue;
+            if (fluid.amount <= 0) {
+                tank.setFluid(null);
+            } else {
+                hasFluid = true;
+            }
+        }
+        return hasFluid;
+    }
+
     @Override
     public boolean supportsTicking() {
         return true;
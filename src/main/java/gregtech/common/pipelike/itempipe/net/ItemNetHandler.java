@@ -103,8 +103,8 @@ public class ItemNetHandler implements IItemHandler {
     }
 
     public ItemStack insertFirst(ItemStack stack, boolean simulate) {
-        for (ItemPipeNet.Inventory inv : net.getNetData(pipe.getPipePos(), facing)) {
-            stack = insert(inv, stack, simulate);
+        for (ItemPipeNet.Inventory inv : net.getNetData(pipe.getPipePos(), facing, stack)) {
+            stack = insertFiltered(inv, stack, simulate, false);
             if (stack.isEmpty())
                 return ItemStack.EMPTY;
         }
@@ -112,17 +112,17 @@ public class ItemNetHandler implements IItemHandler {
     }
 
     public ItemStack insertRoundRobin(ItemStack stack, boolean simulate, boolean global) {
-        List<ItemPipeNet.Inventory> handlers = net.getNetData(pipe.getPipePos(), facing);
+        List<ItemPipeNet.Inventory> handlers = net.getNetData(pipe.getPipePos(), facing, stack);
         if (handlers.size() == 0)
             return stack;
         if (handlers.size() == 1)
-            return insert(handlers.get(0), stack, simulate);
-        List<ItemPipeNet.Inventory> handlersCopy = new ArrayList<>(handlers);
-        int original = stack.getCount();
+            return insertFiltered(handlers.get(0), stack, simulate, false);
 
         if (global) {
-            stack = insertToHandlersEnhanced(handlersCopy, stack, handlers.size(), simulate);
+            stack = insertToHandlersEnhanced(handlers, stack, simulate);
         } else {
+            // inserting removes full handlers from the list, so it needs a copy
+            List<ItemPipeNet.Inventory> handlersCopy = new ArrayList<>(handlers);
             stack = insertToHandlers(handlersCopy, stack, simulate);
             if (!stack.isEmpty() && handlersCopy.size() > 0)
                 stack = insertToHandlers(handlersCopy, stack, simulate);
@@ -158,7 +158,7 @@ public class ItemNetHandler implements IItemHandler {
             if (amount == 0) break;
             ItemStack toInsert = stack.copy();
             toInsert.setCount(amount);
-            int r = insert(handler, toInsert, simulate).getCount();
+            int r = insertFiltered(handler, toInsert, simulate, false).getCount();
             if (r < amount) {
                 inserted += (amount - r);
             }
@@ -175,16 +175,16 @@ public class ItemNetHandler implements IItemHandler {
         return remainder;
     }
 
-    private ItemStack insertToHandlersEnhanced(List<ItemPipeNet.Inventory> copy, ItemStack stack, int dest, boolean simulate) {
+    private ItemStack insertToHandlersEnhanced(List<ItemPipeNet.Inventory> handlers, ItemStack stack, boolean simulate) {
         LinkedList<EnhancedRoundRobinData> transferred = new LinkedList<>();
         LinkedList<Integer> steps = new LinkedList<>();
         int min = Integer.MAX_VALUE;
         ItemStack simStack;
 
         // find inventories that are not full and get the amount that was inserted in total
-        for (ItemPipeNet.Inventory inv : copy) {
+        for (ItemPipeNet.Inventory inv : handlers) {
             simStack = stack.copy();
-            int ins = stack.getCount() - insert(inv, simStack, true, true).getCount();
+            int ins = stack.getCount() - insertFiltered(inv, simStack, true, true).getCount();
             if (ins <= 0)
                 continue;
             int didTransfer = didTransferTo(inv, simulate);
@@ -277,7 +277,7 @@ public class ItemNetHandler implements IItemHandler {
         for (EnhancedRoundRobinData data : transferred) {
             ItemStack toInsert = stack.copy();
             toInsert.setCount(data.toTransfer);
-            int ins = data.toTransfer - insert(data.inventory, toInsert, simulate).getCount();
+            int ins = data.toTransfer - insertFiltered(data.inventory, toInsert, simulate, false).getCount();
             inserted += ins;
             transferTo(data.inventory, simulate, ins);
         }
@@ -292,8 +292,18 @@ public class ItemNetHandler implements IItemHandler {
     }
 
     public ItemStack insert(ItemPipeNet.Inventory handler, ItemStack stack, boolean simulate, boolean ignoreLimit) {
+        if (!handler.matchesFilters(stack)) {
+            return stack;
+        }
+        return insertFiltered(handler, stack, simulate, ignoreLimit);
+    }
+
+    /**
+     * Same as {@link #insert(ItemPipeNet.Inventory, ItemStack, boolean, boolean)}, for handlers already known to accept the stack
+     */
+    private ItemStack insertFiltered(ItemPipeNet.Inventory handler, ItemStack stack, boolean simulate, boolean ignoreLimit) {
         int allowed = ignoreLimit ? stack.getCount() : checkTransferable(handler.getProperties().getTransferRate(), stack.getCount(), simulate);
-        if (allowed == 0 || !handler.matchesFilters(stack)) {
+        if (allowed == 0) {
             return stack;
         }
         CoverBehavior pipeCover = getCoverOnPipe(handler.getPipePos(), handler.getFaceToHandler());
@@ -5,12 +5,17 @@ import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
 import gregtech.api.unification.material.properties.ItemPipeProperties;
 import gregtech.api.util.FacingPos;
+import gregtech.api.util.GTProfiler;
+import gregtech.api.util.ItemStackHashStrategy;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
 
@@ -19,7 +24,12 @@ import java.util.function.Predicate;
 
 public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
 
+    // limits the amount of item types cached per source pipe, so pipes moving many different items don't grow forever
+    private static final int MAX_FILTERED_ITEM_TYPES = 64;
+
     private final Map<BlockPos, List<Inventory>> NET_DATA = new HashMap<>();
+    // the inventories of NET_DATA whose filters accept an item type
+    private final Map<BlockPos, Map<ItemStack, List<Inventory>>> FILTERED_NET_DATA = new HashMap<>();
 
     public ItemPipeNet(WorldPipeNet<ItemPipeProperties, ? extends PipeNet<ItemPipeProperties>> world) {
         super(world);
@@ -28,6 +38,9 @@ public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
     public List<Inventory> getNetData(BlockPos pipePos, EnumFacing facing) {
         List<Inventory> data = NET_DATA.get(pipePos);
         if (data == null) {
+            if (GTProfiler.isRunning()) {
+                GTProfiler.recordPipeNetRebuild(getClass(), getWorldData().provider.getDimension());
+            }
             data = ItemNetWalker.createNetData(getWorldData(), pipePos, facing);
             if (data == null) {
                 // walker failed, don't cache so it tries again on next insertion
@@ -39,21 +52,55 @@ public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
         return data;
     }
 
+    /**
+     * @return the inventories of {@link #getNetData(BlockPos, EnumFacing)} whose filters accept the stack, in the same order
+     */
+    public List<Inventory> getNetData(BlockPos pipePos, EnumFacing facing, ItemStack stack) {
+        List<Inventory> data = getNetData(pipePos, facing);
+        if (data.isEmpty()) {
+            return data;
+        }
+        Map<ItemStack, List<Inventory>> filteredData = FILTERED_NET_DATA.get(pipePos);
+        if (filteredData == null) {
+            filteredData = new Object2ObjectOpenCustomHashMap<>(ItemStackHashStrategy.comparingAllButCount());
+            FILTERED_NET_DATA.put(pipePos, filteredData);
+        }
+        List<Inventory> filtered = filteredData.get(stack);
+        if (filtered == null) {
+            filtered = new ArrayList<>();
+            for (Inventory inventory : data) {
+                if (inventory.matchesFilters(stack)) {
+                    filtered.add(inventory);
+                }
+            }
+            if (filteredData.size() >= MAX_FILTERED_ITEM_TYPES) {
+                filteredData.clear();
+            }
+            filteredData.put(stack.copy(), filtered);
+        }
+        return filtered;
+    }
+
+    private void clearNetData() {
+        NET_DATA.clear();
+        FILTERED_NET_DATA.clear();
+    }
+
     @Override
     public void onNeighbourUpdate(BlockPos fromPos) {
-        NET_DATA.clear();
+        clearNetData();
     }
 
     @Override
     public void onPipeConnectionsUpdate() {
-        NET_DATA.clear();
+        clearNetData();
     }
 
     @Override
-    protected void transferNodeData(Map<BlockPos, Node<ItemPipeProperties>> transferredNodes, PipeNet<ItemPipeProperties> parentNet) {
+    protected void transferNodeData(Long2ObjectMap<Node<ItemPipeProperties>> transferredNodes, PipeNet<ItemPipeProperties> parentNet) {
         super.transferNodeData(transferredNodes, parentNet);
-        NET_DATA.clear();
-        ((ItemPipeNet) parentNet).NET_DATA.clear();
+        clearNetData();
+        ((ItemPipeNet) parentNet).clearNetData();
     }
 
     @Override
@@ -73,6 +120,12 @@ public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
         private final int distance;
         private final ItemPipeProperties properties;
         private final List<Predicate<ItemStack>> filters;
+        private final BlockPos handlerPos;
+
+        // the resolved handler stays valid until its tile entity is removed or its chunk unloads
+        private TileEntity cachedTile;
+        private Chunk cachedChunk;
+        private IItemHandler cachedHandler;
 
         public Inventory(BlockPos pipePos, EnumFacing facing, int distance, ItemPipeProperties properties, List<Predicate<ItemStack>> filters) {
             this.pipePos = pipePos;
@@ -80,6 +133,7 @@ public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
             this.distance = distance;
             this.properties = properties;
             this.filters = filters;
+            this.handlerPos = pipePos.offset(facing);
         }
 
         public BlockPos getPipePos() {
@@ -112,14 +166,28 @@ public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
         }
 
         public BlockPos getHandlerPos() {
-            return pipePos.offset(faceToHandler);
+            return handlerPos;
         }
 
         public IItemHandler getHandler(World world) {
-            TileEntity tile = world.getTileEntity(getHandlerPos());
-            if (tile != null)
-                return tile.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, faceToHandler.getOpposite());
-            return null;
+            if (cachedTile != null) {
+                if (!cachedTile.isInvalid() && cachedChunk.isLoaded()) {
+                    return cachedHandler;
+                }
+                this.cachedTile = null;
+                this.cachedChunk = null;
+                this.cachedHandler = null;
+            }
+            TileEntity tile = world.getTileEntity(handlerPos);
+            if (tile == null)
+                return null;
+            IItemHandler handler = tile.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, faceToHandler.getOpposite());
+            if (handler != null) {
+                this.cachedTile = tile;
+                this.cachedChunk = world.getChunk(handlerPos);
+                this.cachedHandler = handler;
+            }
+            return handler;
         }
 
         public FacingPos toFacingPos() {
@@ -93,6 +93,16 @@ public class TileEntityItemPipe extends TileEntityMaterialPipeBase<ItemPipeType,
         return currentPipeNet;
     }
 
+    @Override
+    public void markAsDirty() {
+        super.markAsDirty();
+        // covers on this pipe changed, which can change the filters of the routes through it
+        ItemPipeNet net = getItemPipeNet();
+        if (net != null) {
+            net.onPipeConnectionsUpdate();
+        }
+    }
+
     public void resetTransferred() {
         transferred.clear();
     }
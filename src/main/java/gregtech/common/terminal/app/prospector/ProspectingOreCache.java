@@ -0,0 +1,207 @@
+package gregtech.common.terminal.app.prospector;
+
+import gregtech.api.GTValues;
+import gregtech.api.unification.OreDictUnifier;
+import gregtech.api.unification.ore.OrePrefix;
+import gregtech.api.unification.ore.StoneType;
+import gregtech.api.unification.stack.MaterialStack;
+import gregtech.api.util.GTUtility;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.oredict.OreDictionary;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches the ores found by the ore prospector, per chunk.
+ * <p>
+ * The ore name of every block state is computed once, until the ore dictionary changes. The ores of a chunk are scanned
+ * on first request, and scanned again after a block in the chunk changed and notified its neighbours.
+ * Block changes without notifications are picked up by scanning summaries again once they are {@link #MAX_SUMMARY_AGE} ticks old.
+ * Ores of a chunk are stored as packed ints, see {@link #getOreSummary(World, Chunk)}.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public class ProspectingOreCache {
+
+    private static final int MAX_CACHED_CHUNKS = 2048;
+    private static final long MAX_SUMMARY_AGE = 1200;
+    private static final int NOT_COMPUTED = -2;
+    private static final int NOT_ORE = -1;
+
+    private static final Map<World, Long2ObjectLinkedOpenHashMap<OreSummary>> summariesPerWorld = new HashMap<>();
+    private static final Reference2IntMap<IBlockState> oreNameByState = new Reference2IntOpenHashMap<>();
+    private static final Object2IntMap<String> oreNameIndices = new Object2IntOpenHashMap<>();
+    private static final List<String> oreNames = new ArrayList<>();
+
+    static {
+        oreNameByState.defaultReturnValue(NOT_COMPUTED);
+        oreNameIndices.defaultReturnValue(-1);
+    }
+
+    private ProspectingOreCache() {}
+
+    /**
+     * Gets the ores of a chunk, scanning it if it is not cached.
+     * <p>
+     * Every ore block is packed into an int as {@code x << 28 | z << 24 | y << 16 | oreNameIndex},
+     * use {@link #getOreName(int)} to get the name of an entry.
+     *
+     * @param world the world of the chunk
+     * @param chunk the chunk to scan
+     * @return the packed ore blocks of the chunk. Must not be modified
+     */
+    @Nonnull
+    public static int[] getOreSummary(@Nonnull World world, @Nonnull Chunk chunk) {
+        Long2ObjectLinkedOpenHashMap<OreSummary> summaries = summariesPerWorld.computeIfAbsent(world, k -> new Long2ObjectLinkedOpenHashMap<>());
+        long chunkKey = ChunkPos.asLong(chunk.x, chunk.z);
+        long worldTime = world.getTotalWorldTime();
+        OreSummary summary = summaries.getAndMoveToLast(chunkKey);
+        if (summary == null || worldTime - summary.scanTime > MAX_SUMMARY_AGE) {
+            summary = new OreSummary(scanChunk(chunk), worldTime);
+            while (summaries.size() >= MAX_CACHED_CHUNKS) {
+                summaries.removeFirst();
+            }
+            summaries.putAndMoveToLast(chunkKey, summary);
+        }
+        return summary.ores;
+    }
+
+    /**
+     * Clears the cached ore names of block states, and the summaries using them.
+     * Must be called when entries are removed from the ore dictionary, additions are handled automatically
+     */
+    public static void clearOreNames() {
+        oreNameByState.clear();
+        summariesPerWorld.clear();
+    }
+
+    /**
+     * @param packedOre an entry of {@link #getOreSummary(World, Chunk)}
+     * @return the ore name of the entry
+     */
+    @Nonnull
+    public static String getOreName(int packedOre) {
+        return oreNames.get(packedOre & 0xFFFF);
+    }
+
+    @Nonnull
+    private static int[] scanChunk(@Nonnull Chunk chunk) {
+        IntArrayList ores = new IntArrayList();
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                int ySize = chunk.getHeightValue(x, z);
+                for (int y = 1; y < ySize; y++) {
+                    pos.setPos(x, y, z);
+                    int oreName = getOreNameIndex(chunk.getBlockState(pos));
+                    if (oreName != NOT_ORE) {
+                        ores.add(x << 28 | z << 24 | (y & 0xFF) << 16 | oreName);
+                    }
+                }
+            }
+        }
+        return ores.toIntArray();
+    }
+
+    private static int getOreNameIndex(@Nonnull IBlockState state) {
+        int index = oreNameByState.getInt(state);
+        if (index == NOT_COMPUTED) {
+            String oreName = computeOreName(state);
+            if (oreName == null) {
+                index = NOT_ORE;
+            } else {
+                index = oreNameIndices.getInt(oreName);
+                if (index == -1) {
+                    index = oreNames.size();
+                    oreNames.add(oreName);
+                    oreNameIndices.put(oreName, index);
+                }
+            }
+            oreNameByState.put(state, index);
+        }
+        return index;
+    }
+
+    private static String computeOreName(@Nonnull IBlockState state) {
+        ItemStack itemBlock = GTUtility.toItem(state);
+        if (!GTUtility.isOre(itemBlock)) return null;
+        String oreDictString = OreDictUnifier.getOreDictionaryNames(itemBlock).stream()
+                .findFirst()
+                .orElse("");
+        OrePrefix prefix = OreDictUnifier.getPrefix(itemBlock);
+        for (StoneType type : StoneType.STONE_TYPE_REGISTRY) {
+            if (type.processingPrefix == prefix && type.shouldBeDroppedAsItem) {
+                return oreDictString;
+            } else if (type.processingPrefix == prefix) {
+                MaterialStack materialStack = OreDictUnifier.getMaterial(itemBlock);
+                if (materialStack != null) {
+                    return "ore" + materialStack.material.getLocalizedName();
+                }
+            }
+        }
+        // Probably other mod's ores
+        return oreDictString;
+    }
+
+    @SubscribeEvent
+    public static void onOreRegistration(OreDictionary.OreRegisterEvent event) {
+        clearOreNames();
+    }
+
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        World world = event.getWorld();
+        if (world.isRemote) return;
+        Long2ObjectLinkedOpenHashMap<OreSummary> summaries = summariesPerWorld.get(world);
+        if (summaries != null) {
+            summaries.remove(ChunkPos.asLong(event.getPos().getX() >> 4, event.getPos().getZ() >> 4));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        World world = event.getWorld();
+        if (world.isRemote) return;
+        Long2ObjectLinkedOpenHashMap<OreSummary> summaries = summariesPerWorld.get(world);
+        if (summaries != null) {
+            summaries.remove(ChunkPos.asLong(event.getChunk().x, event.getChunk().z));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        if (!event.getWorld().isRemote) {
+            summariesPerWorld.remove(event.getWorld());
+        }
+    }
+
+    private static class OreSummary {
+
+        private final int[] ores;
+        private final long scanTime;
+
+        private OreSummary(int[] ores, long scanTime) {
+            this.ores = ores;
+            this.scanTime = scanTime;
+        }
+    }
+}
@@ -11,9 +11,11 @@ import gregtech.api.cover.CoverDefinition;
 import gregtech.api.fluids.MetaFluids;
 import gregtech.api.gui.UIFactory;
 import gregtech.api.items.gui.PlayerInventoryUIFactory;
+import gregtech.api.metatileentity.CustomDataSyncHandler;
 import gregtech.api.metatileentity.MetaTileEntityUIFactory;
 import gregtech.api.modules.GregTechModule;
 import gregtech.api.modules.IGregTechModule;
+import gregtech.api.pipenet.tickable.TickableWorldPipeNetEventHandler;
 import gregtech.api.recipes.ModHandler;
 import gregtech.api.recipes.RecipeMap;
 import gregtech.api.recipes.recipeproperties.TemperatureProperty;
@@ -32,14 +34,18 @@ import gregtech.common.MetaEntities;
 import gregtech.common.blocks.BlockWireCoil;
 import gregtech.common.blocks.MetaBlocks;
 import gregtech.common.command.CommandHand;
+import gregtech.common.command.CommandHibernation;
+import gregtech.common.command.CommandRecipeCache;
 import gregtech.common.command.CommandRecipeCheck;
 import gregtech.common.command.CommandShaders;
+import gregtech.common.command.profile.CommandProfile;
 import gregtech.common.command.worldgen.CommandWorldgen;
 import gregtech.common.covers.CoverBehaviors;
 import gregtech.common.covers.filter.FilterTypeRegistry;
 import gregtech.common.items.MetaItems;
 import gregtech.common.items.ToolItems;
 import gregtech.common.metatileentities.MetaTileEntities;
+import gregtech.common.pipelike.fluidpipe.net.WorldFluidPipeNet;
 import gregtech.common.worldgen.LootTableHelper;
 import gregtech.core.advancement.AdvancementTriggers;
 import gregtech.core.advancement.internal.AdvancementManager;
@@ -156,6 +162,10 @@ public class CoreModule implements IGregTechModule {
 
         MetaEntities.init();
 
+        if (ConfigHolder.machines.networkFluidTransport) {
+            TickableWorldPipeNetEventHandler.registerTickablePipeNet(WorldFluidPipeNet::getWorldPipeNet);
+        }
+
         /* Start Heating Coil Registration */
         for (BlockWireCoil.CoilType type : BlockWireCoil.CoilType.values()) {
             HEATING_COILS.put(MetaBlocks.WIRE_COIL.getState(type), type);
@@ -181,6 +191,8 @@ public class CoreModule implements IGregTechModule {
         GregTechAPI.networkHandler.registerPacket(PacketNotifyCapeChange.class);
         GregTechAPI.networkHandler.registerPacket(PacketReloadShaders.class);
         GregTechAPI.networkHandler.registerPacket(PacketClipboardNBTUpdate.class);
+        GregTechAPI.networkHandler.registerPacket(PacketUIWidgetUpdateBatch.class);
+        GregTechAPI.networkHandler.registerPacket(PacketCustomData.class);
     }
 
     @Override
@@ -259,6 +271,9 @@ public class CoreModule implements IGregTechModule {
         GregTechAPI.commandManager.addCommand(new CommandWorldgen());
         GregTechAPI.commandManager.addCommand(new CommandHand());
         GregTechAPI.commandManager.addCommand(new CommandRecipeCheck());
+        GregTechAPI.commandManager.addCommand(new CommandRecipeCache());
+        GregTechAPI.commandManager.addCommand(new CommandHibernation());
+        GregTechAPI.commandManager.addCommand(new CommandProfile());
         GregTechAPI.commandManager.addCommand(new CommandShaders());
         CapesRegistry.load();
     }
@@ -269,11 +284,9 @@ public class CoreModule implements IGregTechModule {
             World world = FMLCommonHandler.instance().getMinecraftServerInstance().getEntityWorld();
             if (!world.isRemote) {
                 BedrockFluidVeinSaveData saveData = (BedrockFluidVeinSaveData) world.loadData(BedrockFluidVeinSaveData.class, BedrockFluidVeinSaveData.dataName);
-                if (saveData == null) {
-                    saveData = new BedrockFluidVeinSaveData(BedrockFluidVeinSaveData.dataName);
-                    world.setData(BedrockFluidVeinSaveData.dataName, saveData);
+                if (saveData != null) {
+                    saveData.migrateVeins(world);
                 }
-                BedrockFluidVeinSaveData.setInstance(saveData);
             }
         }
     }
@@ -282,5 +295,7 @@ public class CoreModule implements IGregTechModule {
     public void serverStopped(FMLServerStoppedEvent event) {
         VirtualTankRegistry.clearMaps();
         CapesRegistry.clearMaps();
+        BedrockFluidVeinHandler.clearVeinRegions();
+        CustomDataSyncHandler.clearPendingData();
     }
 }
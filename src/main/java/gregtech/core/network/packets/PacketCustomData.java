@@ -0,0 +1,66 @@
+package gregtech.core.network.packets;
+
+import gregtech.api.metatileentity.SyncedTileEntityBase;
+import gregtech.api.network.IClientExecutor;
+import gregtech.api.network.IPacket;
+import io.netty.buffer.ByteBuf;
+import lombok.NoArgsConstructor;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.network.NetHandlerPlayClient;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * The custom data written by a {@link SyncedTileEntityBase} during a single tick.
+ * <p>
+ * The data holds, for every write, the discriminator as a var int, the length of the written data as an int
+ * and the written data itself.
+ */
+@NoArgsConstructor
+public class PacketCustomData implements IPacket, IClientExecutor {
+
+    private BlockPos pos;
+    private ByteBuf customData;
+
+    public PacketCustomData(BlockPos pos, ByteBuf customData) {
+        this.pos = pos;
+        this.customData = customData;
+    }
+
+    @Override
+    public void encode(PacketBuffer buf) {
+        buf.writeBlockPos(pos);
+        buf.writeVarInt(customData.readableBytes());
+        buf.writeBytes(customData, customData.readerIndex(), customData.readableBytes());
+    }
+
+    @Override
+    public void decode(PacketBuffer buf) {
+        this.pos = buf.readBlockPos();
+        this.customData = buf.readBytes(buf.readVarInt());
+    }
+
+    @SideOnly(Side.CLIENT)
+    @Override
+    public void executeClient(NetHandlerPlayClient handler) {
+        try {
+            World world = Minecraft.getMinecraft().world;
+            TileEntity tileEntity = world == null ? null : world.getTileEntity(pos);
+            if (tileEntity instanceof SyncedTileEntityBase) {
+                SyncedTileEntityBase syncedTileEntity = (SyncedTileEntityBase) tileEntity;
+                while (customData.isReadable()) {
+                    int discriminator = new PacketBuffer(customData).readVarInt();
+                    // slice every write, so reading less than was written can not corrupt the following ones
+                    ByteBuf data = customData.readSlice(customData.readInt());
+                    syncedTileEntity.receiveCustomData(discriminator, new PacketBuffer(data));
+                }
+            }
+        } finally {
+            customData.release();
+        }
+    }
+}
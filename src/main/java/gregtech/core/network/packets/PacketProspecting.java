@@ -1,12 +1,15 @@
 package gregtech.core.network.packets;
 
 import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import lombok.NoArgsConstructor;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 @NoArgsConstructor
@@ -33,13 +36,36 @@ public class PacketProspecting {
         ores = new HashSet<>();
     }
 
+    /**
+     * Reads a packet written by {@link #writePacketData(PacketBuffer)}
+     */
     public static PacketProspecting readPacketData(PacketBuffer buffer) {
         PacketProspecting packet = new PacketProspecting(buffer.readInt(), buffer.readInt(), buffer.readInt(), buffer.readInt(), buffer.readInt());
-        int aSize = 0;
-        if (packet.mode == 0)
-            aSize = 16;
-        else if (packet.mode == 1)
-            aSize = 1;
+        int aSize = packet.getMapSize();
+        String[] palette = new String[buffer.readVarInt()];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = buffer.readString(1000);
+        }
+        int blockCount = buffer.readVarInt();
+        for (int i = 0; i < blockCount; i++) {
+            int position = buffer.readUnsignedShort();
+            int paletteIndex = buffer.readVarInt();
+            int x = position >> 12;
+            int z = (position >> 8) & 0xF;
+            if (x >= aSize || z >= aSize || paletteIndex >= palette.length) {
+                return null;
+            }
+            packet.addBlock(x, position & 0xFF, z, palette[paletteIndex]);
+        }
+        return packet;
+    }
+
+    /**
+     * Reads a packet in the format of older versions, which wrote the full name of every block
+     */
+    private static PacketProspecting readLegacyPacketData(PacketBuffer buffer) {
+        PacketProspecting packet = new PacketProspecting(buffer.readInt(), buffer.readInt(), buffer.readInt(), buffer.readInt(), buffer.readInt());
+        int aSize = packet.getMapSize();
         int checkOut = 0;
         for (int i = 0; i < aSize; i++)
             for (int j = 0; j < aSize; j++) {
@@ -62,10 +88,12 @@ public class PacketProspecting {
         return packet;
     }
 
-
     public static PacketProspecting readPacketData(NBTTagCompound nbt) {
+        if (nbt.hasKey("data")) {
+            return PacketProspecting.readPacketData(new PacketBuffer(Unpooled.wrappedBuffer(nbt.getByteArray("data"))));
+        }
         if (nbt.hasKey("buffer")) {
-            return PacketProspecting.readPacketData(new PacketBuffer(Unpooled.wrappedBuffer(nbt.getByteArray("buffer"))));
+            return PacketProspecting.readLegacyPacketData(new PacketBuffer(Unpooled.wrappedBuffer(nbt.getByteArray("buffer"))));
         }
         return null;
     }
@@ -74,37 +102,56 @@ public class PacketProspecting {
         NBTTagCompound nbt = new NBTTagCompound();
         PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
         writePacketData(buffer);
-        byte[] bytes = buffer.array();
-        nbt.setByteArray("buffer", bytes);
+        byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(bytes);
+        nbt.setByteArray("data", bytes);
         return nbt;
     }
 
+    /**
+     * Writes this packet. Every distinct name is written once into a palette,
+     * followed by the blocks as their packed position and palette index.
+     */
     public void writePacketData(PacketBuffer buffer) {
         buffer.writeInt(chunkX);
         buffer.writeInt(chunkZ);
         buffer.writeInt(posX);
         buffer.writeInt(posZ);
         buffer.writeInt(mode);
-        int aSize = 0;
-        if (this.mode == 0)
-            aSize = 16;
-        else if (this.mode == 1)
-            aSize = 1;
-        int checkOut = 0;
+        int aSize = getMapSize();
+        Object2IntMap<String> palette = new Object2IntLinkedOpenHashMap<>();
+        int blockCount = 0;
         for (int i = 0; i < aSize; i++)
             for (int j = 0; j < aSize; j++) {
-                if (map[i][j] == null)
-                    buffer.writeByte(0);
-                else {
-                    buffer.writeByte(map[i][j].keySet().size());
-                    for (byte key : map[i][j].keySet()) {
-                        buffer.writeByte(key);
-                        buffer.writeString(map[i][j].get(key));
-                        checkOut++;
+                if (map[i][j] == null) continue;
+                for (String name : map[i][j].values()) {
+                    if (!palette.containsKey(name)) {
+                        palette.put(name, palette.size());
                     }
                 }
+                blockCount += map[i][j].size();
+            }
+        buffer.writeVarInt(palette.size());
+        for (String name : palette.keySet()) {
+            buffer.writeString(name);
+        }
+        buffer.writeVarInt(blockCount);
+        for (int i = 0; i < aSize; i++)
+            for (int j = 0; j < aSize; j++) {
+                if (map[i][j] == null) continue;
+                for (Map.Entry<Byte, String> entry : map[i][j].entrySet()) {
+                    buffer.writeShort(i << 12 | j << 8 | entry.getKey() & 0xFF);
+                    buffer.writeVarInt(palette.getInt(entry.getValue()));
+                }
             }
-        buffer.writeInt(checkOut);
+    }
+
+    private int getMapSize() {
+        if (this.mode == 0)
+            return 16;
+        else if (this.mode == 1)
+            return 1;
+        return 0;
     }
 
     public void addBlock(int x, int y, int z, String orePrefix) {
@@ -0,0 +1,62 @@
+package gregtech.core.network.packets;
+
+import gregtech.api.gui.impl.ModularUIGui;
+import gregtech.api.network.IClientExecutor;
+import gregtech.api.network.IPacket;
+import gregtech.core.network.NetworkUtils;
+import lombok.NoArgsConstructor;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiScreen;
+import net.minecraft.client.network.NetHandlerPlayClient;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * All widget updates of a single container collected during one tick.
+ * <p>
+ * The update data holds, for every update, the widget id followed by the length prefixed update payload,
+ * in the same form as the payload of a {@link PacketUIWidgetUpdate}.
+ */
+@NoArgsConstructor
+public class PacketUIWidgetUpdateBatch implements IPacket, IClientExecutor {
+
+    private int windowId;
+    private int updateCount;
+    private PacketBuffer updateData;
+
+    public PacketUIWidgetUpdateBatch(int windowId, int updateCount, PacketBuffer updateData) {
+        this.windowId = windowId;
+        this.updateCount = updateCount;
+        this.updateData = updateData;
+    }
+
+    @Override
+    public void encode(PacketBuffer buf) {
+        buf.writeVarInt(windowId);
+        buf.writeVarInt(updateCount);
+        NetworkUtils.writePacketBuffer(buf, updateData);
+    }
+
+    @Override
+    public void decode(PacketBuffer buf) {
+        this.windowId = buf.readVarInt();
+        this.updateCount = buf.readVarInt();
+        this.updateData = NetworkUtils.readPacketBuffer(buf);
+    }
+
+    @SideOnly(Side.CLIENT)
+    @Override
+    public void executeClient(NetHandlerPlayClient handler) {
+        GuiScreen currentScreen = Minecraft.getMinecraft().currentScreen;
+        if (currentScreen instanceof ModularUIGui) {
+            ModularUIGui gui = (ModularUIGui) currentScreen;
+            for (int i = 0; i < updateCount; i++) {
+                int widgetId = updateData.readVarInt();
+                // slice every update, so a widget reading less than was written can not corrupt the following ones
+                PacketBuffer widgetData = new PacketBuffer(updateData.readSlice(updateData.readVarInt()));
+                gui.handleWidgetUpdate(windowId, widgetId, widgetData);
+            }
+        }
+    }
+}
@@ -5,18 +5,21 @@ import com.cleanroommc.groovyscript.api.GroovyLog;
 import com.cleanroommc.groovyscript.brackets.BracketHandlerManager;
 import com.cleanroommc.groovyscript.compat.mods.ModPropertyContainer;
 import com.cleanroommc.groovyscript.compat.mods.ModSupport;
+import com.cleanroommc.groovyscript.event.ScriptRunEvent;
 import com.cleanroommc.groovyscript.helper.ingredient.IngredientHelper;
 import com.cleanroommc.groovyscript.helper.ingredient.NbtHelper;
 import com.cleanroommc.groovyscript.registry.VirtualizedRegistry;
 import com.cleanroommc.groovyscript.sandbox.expand.ExpansionHelper;
 import gregtech.api.GTValues;
 import gregtech.api.GregTechAPI;
+import gregtech.api.capability.impl.miner.MinerLogic;
 import gregtech.api.items.metaitem.MetaItem;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.recipes.Recipe;
 import gregtech.api.recipes.RecipeBuilder;
 import gregtech.api.recipes.RecipeMap;
 import gregtech.api.recipes.ingredients.GTRecipeInput;
+import gregtech.api.unification.OreDictUnifier;
 import gregtech.api.unification.crafttweaker.MaterialExpansion;
 import gregtech.api.unification.crafttweaker.MaterialPropertyExpansion;
 import gregtech.api.unification.material.Material;
@@ -28,11 +31,13 @@ import gregtech.common.blocks.MetaBlocks;
 import gregtech.common.pipelike.cable.BlockCable;
 import gregtech.common.pipelike.fluidpipe.BlockFluidPipe;
 import gregtech.common.pipelike.itempipe.BlockItemPipe;
+import gregtech.common.terminal.app.prospector.ProspectingOreCache;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.common.Loader;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 
 import javax.annotation.Nullable;
 import java.util.Map;
@@ -58,10 +63,19 @@ public class GroovyScriptCompat {
         if (!loaded) return;
 
         MinecraftForge.EVENT_BUS.register(GroovyHandCommand.class);
+        MinecraftForge.EVENT_BUS.register(GroovyScriptCompat.class);
 
         modSupportContainer = new ModSupport.Container<>(GTValues.MODID, "GregTech", Container::new, "gt");
     }
 
+    @SubscribeEvent
+    public static void onScriptRun(ScriptRunEvent.Post event) {
+        // scripts can remove ore dictionary entries, which is not announced by an event
+        OreDictUnifier.clearOreIdCache();
+        MinerLogic.clearOreStates();
+        ProspectingOreCache.clearOreNames();
+    }
+
     public static boolean isLoaded() {
         return loaded;
     }
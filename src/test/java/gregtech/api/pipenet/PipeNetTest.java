@@ -0,0 +1,129 @@
+package gregtech.api.pipenet;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.hamcrest.CoreMatchers.*;
+
+public class PipeNetTest {
+
+    private static final int SIZE = 6;
+    private static final int ALL_OPEN = 0b111111;
+
+    @Test
+    public void removeNode_SplitsLikeFloodFill() {
+        Random random = new Random(1);
+        for (int run = 0; run < 20; run++) {
+            TestWorldPipeNet worldPipeNet = new TestWorldPipeNet();
+            List<BlockPos> positions = createRandomNodes(worldPipeNet, random);
+            Set<BlockPos> remaining = new HashSet<>(positions);
+            Collections.shuffle(positions, random);
+            for (BlockPos pos : positions) {
+                worldPipeNet.removeNode(pos);
+                remaining.remove(pos);
+                assertNetsAreConnectedParts(worldPipeNet, remaining);
+            }
+        }
+    }
+
+    @Test
+    public void updateBlockedConnections_SplitsLikeFloodFill() {
+        Random random = new Random(2);
+        for (int run = 0; run < 20; run++) {
+            TestWorldPipeNet worldPipeNet = new TestWorldPipeNet();
+            List<BlockPos> positions = createRandomNodes(worldPipeNet, random);
+            Set<BlockPos> remaining = new HashSet<>(positions);
+            for (int i = 0; i < positions.size(); i++) {
+                BlockPos pos = positions.get(random.nextInt(positions.size()));
+                EnumFacing facing = EnumFacing.VALUES[random.nextInt(EnumFacing.VALUES.length)];
+                worldPipeNet.updateBlockedConnections(pos, facing, random.nextInt(4) != 0);
+                assertNetsAreConnectedParts(worldPipeNet, remaining);
+            }
+        }
+    }
+
+    private static List<BlockPos> createRandomNodes(TestWorldPipeNet worldPipeNet, Random random) {
+        List<BlockPos> positions = new ArrayList<>();
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                for (int z = 0; z < SIZE; z++) {
+                    if (random.nextInt(3) == 0) continue;
+                    // cross chunk borders, as nets are indexed per chunk
+                    BlockPos pos = new BlockPos(x + 13, y, z - 3);
+                    worldPipeNet.addNode(pos, 0, Node.DEFAULT_MARK, ALL_OPEN, false);
+                    positions.add(pos);
+                }
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Checks the nets against the connected parts found by a plain flood fill over all nodes
+     */
+    private static void assertNetsAreConnectedParts(TestWorldPipeNet worldPipeNet, Set<BlockPos> positions) {
+        Set<BlockPos> visited = new HashSet<>();
+        Set<PipeNet<Integer>> seenNets = new HashSet<>();
+        for (BlockPos start : positions) {
+            if (visited.contains(start)) continue;
+            PipeNet<Integer> pipeNet = worldPipeNet.getNetFromPos(start);
+            MatcherAssert.assertThat(pipeNet, notNullValue());
+            MatcherAssert.assertThat(seenNets.add(pipeNet), is(true));
+
+            Deque<BlockPos> queue = new ArrayDeque<>();
+            queue.add(start);
+            visited.add(start);
+            int partSize = 0;
+            while (!queue.isEmpty()) {
+                BlockPos pos = queue.poll();
+                partSize++;
+                MatcherAssert.assertThat(worldPipeNet.getNetFromPos(pos), sameInstance(pipeNet));
+                Node<Integer> node = pipeNet.getNodeAt(pos);
+                for (EnumFacing facing : EnumFacing.VALUES) {
+                    BlockPos offsetPos = pos.offset(facing);
+                    if (!positions.contains(offsetPos) || visited.contains(offsetPos)) continue;
+                    Node<Integer> offsetNode = worldPipeNet.getNetFromPos(offsetPos).getNodeAt(offsetPos);
+                    if (node.isBlocked(facing) || offsetNode.isBlocked(facing.getOpposite())) continue;
+                    visited.add(offsetPos);
+                    queue.add(offsetPos);
+                }
+            }
+            MatcherAssert.assertThat(pipeNet.getAllNodes().size(), is(partSize));
+        }
+        MatcherAssert.assertThat(worldPipeNet.pipeNets.size(), is(seenNets.size()));
+    }
+
+    private static class TestWorldPipeNet extends WorldPipeNet<Integer, TestPipeNet> {
+
+        public TestWorldPipeNet() {
+            super("test");
+        }
+
+        @Override
+        protected TestPipeNet createNetInstance() {
+            return new TestPipeNet(this);
+        }
+    }
+
+    private static class TestPipeNet extends PipeNet<Integer> {
+
+        public TestPipeNet(WorldPipeNet<Integer, ? extends PipeNet<Integer>> world) {
+            super(world);
+        }
+
+        @Override
+        protected void writeNodeData(Integer nodeData, NBTTagCompound tagCompound) {
+            tagCompound.setInteger("data", nodeData);
+        }
+
+        @Override
+        protected Integer readNodeData(NBTTagCompound tagCompound) {
+            return tagCompound.getInteger("data");
+        }
+    }
+}
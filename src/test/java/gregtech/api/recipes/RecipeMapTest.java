@@ -1,6 +1,7 @@
 package gregtech.api.recipes;
 
 import gregtech.Bootstrap;
+import gregtech.api.capability.impl.FluidTankList;
 import gregtech.api.recipes.builders.SimpleRecipeBuilder;
 import gregtech.api.recipes.map.AbstractMapIngredient;
 import gregtech.api.recipes.map.MapFluidIngredient;
@@ -11,6 +12,8 @@ import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.items.ItemStackHandler;
 import net.minecraftforge.oredict.OreDictionary;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsNot;
@@ -19,8 +22,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static gregtech.api.unification.material.Materials.*;
 import static org.hamcrest.CoreMatchers.*;
@@ -127,6 +133,130 @@ public class RecipeMapTest {
         MatcherAssert.assertThat(map.getRecipeList().size(), is(2));
     }
 
+    @Test
+    public void findRecipeMatchesUnbufferedLookup() {
+        // lookups reuse a per-thread buffer, so run different inputs one after another
+        assertSameLookup(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)), Collections.emptyList());
+        assertSameLookup(1, Collections.singletonList(new ItemStack(Blocks.STONE)), Collections.singletonList(new FluidStack(FluidRegistry.WATER, 1)));
+        assertSameLookup(1, Collections.singletonList(new ItemStack(Blocks.STONE)), Collections.emptyList());
+        assertSameLookup(30, Collections.singletonList(ItemStack.EMPTY), Arrays.asList(
+                Epichlorohydrin.getFluid(144),
+                Naphtha.getFluid(3000),
+                NitrogenDioxide.getFluid(1000)));
+        assertSameLookup(1, Collections.singletonList(ItemStack.EMPTY), Arrays.asList(
+                Epichlorohydrin.getFluid(144),
+                Naphtha.getFluid(3000),
+                NitrogenDioxide.getFluid(1000)));
+        assertSameLookup(30, Arrays.asList(new ItemStack(Blocks.COBBLESTONE), new ItemStack(Blocks.GRAVEL)), Collections.emptyList());
+    }
+
+    private void assertSameLookup(long voltage, List<ItemStack> items, List<FluidStack> fluids) {
+        Recipe expected = map.find(
+                items.stream().filter(s -> !s.isEmpty()).collect(Collectors.toList()),
+                fluids.stream().filter(f -> f != null && f.amount != 0).collect(Collectors.toList()),
+                recipe -> recipe.getEUt() <= voltage && recipe.matches(false, items, fluids));
+        MatcherAssert.assertThat(map.findRecipe(voltage, items, fluids), sameInstance(expected));
+    }
+
+    @Test
+    public void findRecipeMissCacheClearedOnAdd() {
+        // no recipe takes gravel yet, so the lookup is remembered as a miss
+        MatcherAssert.assertThat(map.findRecipe(30, Collections.singletonList(new ItemStack(Blocks.GRAVEL)), Collections.emptyList()), nullValue());
+        MatcherAssert.assertThat(map.getLookupMissCache().size(), is(1));
+
+        long hits = map.getLookupMissCache().getHits();
+        MatcherAssert.assertThat(map.findRecipe(30, Collections.singletonList(new ItemStack(Blocks.GRAVEL)), Collections.emptyList()), nullValue());
+        MatcherAssert.assertThat(map.getLookupMissCache().getHits(), is(hits + 1));
+
+        map.recipeBuilder()
+                .inputs(new ItemStack(Blocks.GRAVEL))
+                .outputs(new ItemStack(Blocks.SAND))
+                .EUt(30).duration(1)
+                .buildAndRegister();
+
+        MatcherAssert.assertThat(map.getLookupMissCache().size(), is(0));
+        MatcherAssert.assertThat(map.findRecipe(30, Collections.singletonList(new ItemStack(Blocks.GRAVEL)), Collections.emptyList()), notNullValue());
+    }
+
+    @Test
+    public void findRecipeMissCacheClearedOnRemove() {
+        Recipe r = map.findRecipe(30,
+                Collections.singletonList(ItemStack.EMPTY),
+                Arrays.asList(
+                        Epichlorohydrin.getFluid(144),
+                        Naphtha.getFluid(3000),
+                        NitrogenDioxide.getFluid(1000))
+        );
+        MatcherAssert.assertThat(r, notNullValue());
+
+        MatcherAssert.assertThat(map.findRecipe(30, Collections.singletonList(new ItemStack(Blocks.GRAVEL)), Collections.emptyList()), nullValue());
+        MatcherAssert.assertThat(map.getLookupMissCache().size(), is(1));
+
+        assert map.removeRecipe(r);
+        MatcherAssert.assertThat(map.getLookupMissCache().size(), is(0));
+        MatcherAssert.assertThat(map.findRecipe(30,
+                Collections.singletonList(ItemStack.EMPTY),
+                Arrays.asList(
+                        Epichlorohydrin.getFluid(144),
+                        Naphtha.getFluid(3000),
+                        NitrogenDioxide.getFluid(1000))
+        ), nullValue());
+
+        // restoring the recipe, as GroovyScript reloads do, must make the remembered miss findable again
+        map.compileRecipe(r);
+        MatcherAssert.assertThat(map.findRecipe(30,
+                Collections.singletonList(ItemStack.EMPTY),
+                Arrays.asList(
+                        Epichlorohydrin.getFluid(144),
+                        Naphtha.getFluid(3000),
+                        NitrogenDioxide.getFluid(1000))
+        ), notNullValue());
+    }
+
+    @Test
+    public void recipeMatchesHandlersLikeLists() {
+        Recipe recipe = (Recipe) new RecipeBuilder<>()
+                .inputs(new ItemStack(Blocks.STONE, 2))
+                .notConsumable(new ItemStack(Blocks.COBBLESTONE))
+                .fluidInputs(new FluidStack(FluidRegistry.WATER, 100))
+                .outputs(new ItemStack(Blocks.GRAVEL))
+                .EUt(1).duration(1)
+                .build().getResult();
+
+        ItemStackHandler itemHandler = new ItemStackHandler(3);
+        itemHandler.setStackInSlot(0, new ItemStack(Blocks.COBBLESTONE));
+        itemHandler.setStackInSlot(1, new ItemStack(Blocks.STONE));
+        itemHandler.setStackInSlot(2, new ItemStack(Blocks.STONE, 3));
+        FluidTankList fluidHandler = new FluidTankList(false,
+                new FluidTank(new FluidStack(FluidRegistry.WATER, 100), 1000),
+                new FluidTank(1000));
+
+        List<ItemStack> items = new ArrayList<>();
+        for (int i = 0; i < itemHandler.getSlots(); i++) {
+            items.add(itemHandler.getStackInSlot(i).copy());
+        }
+        List<FluidStack> fluids = new ArrayList<>();
+        for (int i = 0; i < fluidHandler.getTanks(); i++) {
+            FluidStack fluid = fluidHandler.getTankAt(i).getFluid();
+            fluids.add(fluid == null ? null : fluid.copy());
+        }
+
+        // the first match consumes all the water, so the second one fails on both
+        for (int run = 0; run < 2; run++) {
+            boolean expected = run == 0;
+            MatcherAssert.assertThat(recipe.matches(true, items, fluids), is(expected));
+            MatcherAssert.assertThat(recipe.matches(true, itemHandler, fluidHandler), is(expected));
+
+            for (int i = 0; i < items.size(); i++) {
+                MatcherAssert.assertThat(ItemStack.areItemStacksEqual(itemHandler.getStackInSlot(i), items.get(i)), is(true));
+            }
+            for (int i = 0; i < fluids.size(); i++) {
+                MatcherAssert.assertThat(fluidHandler.getTankAt(i).getFluid() == null, is(fluids.get(i) == null));
+                MatcherAssert.assertThat(fluidHandler.getTankAt(i).getFluidAmount(), is(fluids.get(i) == null ? 0 : fluids.get(i).amount));
+            }
+        }
+    }
+
     @Test
     public void recipeLookupIgnoresStackAmount() {
         MapItemStackIngredient ingFromStack = new MapItemStackIngredient(
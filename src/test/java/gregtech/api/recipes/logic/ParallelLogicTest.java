@@ -981,4 +981,87 @@ public class ParallelLogicTest {
         assertThat(testMaceratorRecipe.getDuration(), is(150));
 
     }
+
+    @Test
+    public void doParallelRecipes_MultipliedRecipeCacheTest() {
+
+        int parallelAmount = 4;
+
+        Recipe maceratorRecipe = RecipeMaps.MACERATOR_RECIPES.recipeBuilder()
+                .input(Blocks.STONE)
+                .output(Items.CARROT)
+                .EUt(30).duration(100)
+                .build().getResult();
+
+        MetaTileEntityMacerator macerator = new MetaTileEntityMacerator(
+                new ResourceLocation(GTValues.MODID, "macerator"),
+                RecipeMaps.MACERATOR_RECIPES,
+                4,
+                null,
+                GTValues.EV);
+
+        macerator.getImportItems().setStackInSlot(0, new ItemStack(Blocks.STONE, 10));
+
+        RecipeBuilder<?> uncachedRecipe = doParallelRecipes(maceratorRecipe, RecipeMaps.MACERATOR_RECIPES, macerator.getImportItems(),
+                macerator.getImportFluids(), macerator.getExportItems(), macerator.getExportFluids(), parallelAmount, GTValues.V[GTValues.EV], macerator);
+
+        MultipliedRecipeCache cache = new MultipliedRecipeCache();
+        RecipeBuilder<?> cachedRecipe = doParallelRecipes(maceratorRecipe, RecipeMaps.MACERATOR_RECIPES, macerator.getImportItems(),
+                macerator.getImportFluids(), macerator.getExportItems(), macerator.getExportFluids(), parallelAmount, GTValues.V[GTValues.EV], macerator, cache);
+
+        assertThat(uncachedRecipe, notNullValue());
+        assertThat(cachedRecipe, notNullValue());
+
+        // The cached recipe must be the same as the one multiplied without a cache
+        assertThat(cachedRecipe.getEUt(), is(uncachedRecipe.getEUt()));
+        assertThat(cachedRecipe.getDuration(), is(uncachedRecipe.getDuration()));
+        assertThat(cachedRecipe.getParallel(), is(uncachedRecipe.getParallel()));
+
+        assertThat(cachedRecipe.getInputs().size(), is(uncachedRecipe.getInputs().size()));
+        for (int i = 0; i < uncachedRecipe.getInputs().size(); i++) {
+            assertThat(cachedRecipe.getInputs().get(i).getAmount(), is(uncachedRecipe.getInputs().get(i).getAmount()));
+        }
+        assertThat(cachedRecipe.getOutputs().size(), is(uncachedRecipe.getOutputs().size()));
+        for (int i = 0; i < uncachedRecipe.getOutputs().size(); i++) {
+            assertThat(ItemStack.areItemStacksEqual(cachedRecipe.getOutputs().get(i), uncachedRecipe.getOutputs().get(i)), is(true));
+        }
+    }
+
+    @Test
+    public void doParallelRecipes_MultipliedRecipeCacheCopyTest() {
+
+        int parallelAmount = 4;
+
+        Recipe maceratorRecipe = RecipeMaps.MACERATOR_RECIPES.recipeBuilder()
+                .input(Blocks.STONE)
+                .output(Items.CARROT)
+                .EUt(30).duration(100)
+                .build().getResult();
+
+        MetaTileEntityMacerator macerator = new MetaTileEntityMacerator(
+                new ResourceLocation(GTValues.MODID, "macerator"),
+                RecipeMaps.MACERATOR_RECIPES,
+                4,
+                null,
+                GTValues.EV);
+
+        macerator.getImportItems().setStackInSlot(0, new ItemStack(Blocks.STONE, 10));
+
+        MultipliedRecipeCache cache = new MultipliedRecipeCache();
+        RecipeBuilder<?> firstRecipe = doParallelRecipes(maceratorRecipe, RecipeMaps.MACERATOR_RECIPES, macerator.getImportItems(),
+                macerator.getImportFluids(), macerator.getExportItems(), macerator.getExportFluids(), parallelAmount, GTValues.V[GTValues.EV], macerator, cache);
+
+        assertThat(firstRecipe, notNullValue());
+
+        // Modifying a returned recipe, as parallel bonuses do, must not modify the cached recipe
+        firstRecipe.EUt(1).duration(1);
+
+        RecipeBuilder<?> secondRecipe = doParallelRecipes(maceratorRecipe, RecipeMaps.MACERATOR_RECIPES, macerator.getImportItems(),
+                macerator.getImportFluids(), macerator.getExportItems(), macerator.getExportFluids(), parallelAmount, GTValues.V[GTValues.EV], macerator, cache);
+
+        assertThat(secondRecipe, notNullValue());
+        assertThat(secondRecipe.getEUt(), is(30 * parallelAmount));
+        assertThat(secondRecipe.getDuration(), is(100));
+        assertThat(secondRecipe.getParallel(), is(parallelAmount));
+    }
 }
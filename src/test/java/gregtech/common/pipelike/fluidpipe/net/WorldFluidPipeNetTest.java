@@ -0,0 +1,60 @@
+package gregtech.common.pipelike.fluidpipe.net;
+
+import gregtech.api.pipenet.Node;
+import gregtech.api.unification.material.properties.FluidPipeProperties;
+import gregtech.common.ConfigHolder;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+
+public class WorldFluidPipeNetTest {
+
+    private final boolean networkFluidTransport = ConfigHolder.machines.networkFluidTransport;
+
+    @AfterEach
+    public void restoreConfig() {
+        ConfigHolder.machines.networkFluidTransport = networkFluidTransport;
+    }
+
+    @Test
+    public void pipeNetsNotTrackedWithoutNetworkTransport() {
+        ConfigHolder.machines.networkFluidTransport = false;
+        WorldFluidPipeNet worldPipeNet = createLoadedWorldPipeNet();
+        addPipes(worldPipeNet);
+
+        MatcherAssert.assertThat(worldPipeNet.isTrackingPipeNets(), is(false));
+    }
+
+    @Test
+    public void pipeNetsTrackedWithNetworkTransport() {
+        ConfigHolder.machines.networkFluidTransport = true;
+        WorldFluidPipeNet worldPipeNet = createLoadedWorldPipeNet();
+        addPipes(worldPipeNet);
+
+        MatcherAssert.assertThat(worldPipeNet.isTrackingPipeNets(), is(true));
+    }
+
+    private static WorldFluidPipeNet createLoadedWorldPipeNet() {
+        return new WorldFluidPipeNet("test") {
+
+            @Override
+            protected boolean isChunkLoaded(ChunkPos chunkPos) {
+                return true;
+            }
+        };
+    }
+
+    private static void addPipes(WorldFluidPipeNet worldPipeNet) {
+        FluidPipeProperties properties = new FluidPipeProperties(1000, 100, true, true, true, true);
+        // two separate nets, one of them across a chunk border, then merged by a third pipe
+        worldPipeNet.addNode(new BlockPos(14, 64, 0), properties, Node.DEFAULT_MARK, 0b111111, false);
+        worldPipeNet.addNode(new BlockPos(16, 64, 0), properties, Node.DEFAULT_MARK, 0b111111, false);
+        worldPipeNet.addNode(new BlockPos(17, 64, 0), properties, Node.DEFAULT_MARK, 0b111111, false);
+        worldPipeNet.addNode(new BlockPos(15, 64, 0), properties, Node.DEFAULT_MARK, 0b111111, false);
+        worldPipeNet.removeNode(new BlockPos(16, 64, 0));
+    }
+}